@@ -14,79 +14,89 @@ import com.amazon.aws.iot.greengrass.component.common.DependencyType;
 import com.amazon.aws.iot.greengrass.component.common.Platform;
 import com.amazon.aws.iot.greengrass.component.common.PlatformSpecificManifest;
 import com.amazon.aws.iot.greengrass.component.common.RecipeFormatVersion;
+import com.amazon.aws.iot.greengrass.component.common.SerializerFactory;
+import com.amazon.aws.iot.greengrass.component.common.TemplateParameterSchema;
 import com.amazon.aws.iot.greengrass.component.common.Unarchive;
 import com.aws.greengrass.deployment.templating.RecipeTransformer;
 import com.aws.greengrass.deployment.templating.exceptions.RecipeTransformerException;
-import com.aws.greengrass.lambdatransformer.common.models.ContainerParams;
-import com.aws.greengrass.lambdatransformer.common.models.DefaultConfiguration;
-import com.aws.greengrass.lambdatransformer.common.models.LambdaDeviceMount;
-import com.aws.greengrass.lambdatransformer.common.models.LambdaEventSource;
-import com.aws.greengrass.lambdatransformer.common.models.LambdaExecutionParameters;
+import com.aws.greengrass.deployment.templating.exceptions.TemplateParameterException;
+import com.aws.greengrass.lambdatransformer.cache.ExpansionCache;
+import com.aws.greengrass.lambdatransformer.cache.ExpansionKey;
 import com.aws.greengrass.lambdatransformer.common.models.LambdaRuntime;
 import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
-import com.aws.greengrass.lambdatransformer.common.models.LambdaVolumeMount;
-import com.aws.greengrass.lambdatransformer.common.models.LifecycleType;
+import com.aws.greengrass.lambdatransformer.common.utils.CountingOutputStream;
+import com.aws.greengrass.lambdatransformer.common.utils.DefaultConfigurationWriter;
+import com.aws.greengrass.lambdatransformer.common.utils.Digests;
+import com.aws.greengrass.lambdatransformer.common.utils.ExecArgsTemplate;
 import com.aws.greengrass.lambdatransformer.common.utils.LambdaComponentUtil;
+import com.aws.greengrass.lambdatransformer.common.utils.LambdaTemplateParamsValidator;
+import com.aws.greengrass.lambdatransformer.common.utils.LambdaTemplateSchema;
+import com.aws.greengrass.lambdatransformer.common.utils.TransformerSerializers;
+import com.aws.greengrass.lambdatransformer.delta.LambdaParameter;
+import com.aws.greengrass.lambdatransformer.delta.RecipeDiff;
+import com.aws.greengrass.lambdatransformer.delta.RecipePatch;
+import com.aws.greengrass.lambdatransformer.metrics.FlightRecorderSupport;
+import com.aws.greengrass.lambdatransformer.metrics.PhaseTimer;
+import com.aws.greengrass.lambdatransformer.metrics.SchemaInitializationRecording;
+import com.aws.greengrass.lambdatransformer.metrics.TransformListeners;
+import com.aws.greengrass.lambdatransformer.metrics.TransformPhase;
+import com.aws.greengrass.lambdatransformer.metrics.TransformRecording;
+import com.aws.greengrass.lambdatransformer.metrics.TransformerMetrics;
 import com.fasterxml.jackson.core.JsonProcessingException;
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.Data;
 
-import java.util.ArrayList;
+import java.io.IOException;
 import java.util.Collections;
-import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.TreeMap;
 import java.util.stream.Collectors;
 
 import static com.aws.greengrass.lambdatransformer.common.Constants.AWS_LAMBDA_PUBLISHER;
-import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_ARTIFACT_NAME;
 import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_COMPLETE_ARTIFACT_URI;
-import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_EXEC_ARGS_HANDLER;
 import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_LAUNCHER_DEPENDENCY_NAME;
 import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_LAUNCHER_DEPENDENCY_VERSION_REQUIREMENTS;
 import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_RUNTIME_DEPENDENCY_NAME;
 import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_RUNTIME_DEPENDENCY_VERSION_REQUIREMENTS;
-import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_ARN_PARAM_NAME;
-import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_ARTIFACT_PATH_PARAM_NAME;
-import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_CONTAINER_MODE_PARAM_NAME;
-import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_CONTAINER_PARAMS_PARAM_NAME;
-import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_ENCODING_TYPE_PARAM_NAME;
-import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_EXEC_ARGS_PARAM_NAME;
-import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_HANDLER_PARAM_NAME;
-import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_LAMBDA_PARAMS_PARAM_NAME;
-import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_LAMBDA_RUNTIME_PARAM_NAME;
-import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_LAMBDA_RUNTIME_PATH_PARAM_NAME;
-import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_STATUS_TIMEOUT_PARAM_NAME;
 import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_TOKEN_EXCHANGE_SERVICE_DEPENDENCY_NAME;
 import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_TOKEN_EXCHANGE_SERVICE_VERSION_REQUIREMENTS;
 
+/**
+ * Expands Lambda parameter recipes into Lambda components. Once initialized, one instance may expand components from
+ * any number of threads: expansions share only immutable templates, thread safe metrics and the expansion cache, and
+ * never modify the parameters they are given. With the opt-in {@link ExpansionCache}, parameters that were expanded
+ * before return an equal recipe without expanding them again, and with its cache on disk, even after a restart of
+ * the nucleus. Cached or not, every recipe returned has maps of its own, which callers may modify, as TemplateEngine
+ * does with the dependencies.
+ *
+ * <p>Expansion is deterministic: equal parameters always expand to recipes whose maps hold the same entries in the
+ * same order. The recipe itself carries no digest, but {@link Digests#ofRecipe} computes one, which is equal for
+ * expansions of equal parameters and differs whenever anything in the expanded recipe does.
+ */
 public class LambdaTransformer extends RecipeTransformer {
+    // DependencyProperties are immutable, so every expanded recipe can share them
+    private static final Map<String, DependencyProperties> LAMBDA_DEPENDENCIES = lambdaDependencies();
+
+    private final TransformerMetrics metrics = TransformerMetrics.getInstance();
+    private final ExpansionCache expansionCache;
+    private SchemaInitializationRecording schemaRecording = SchemaInitializationRecording.NOOP;
 
-    private final ObjectMapper mapper = new ObjectMapper();
+    public LambdaTransformer() {
+        this(ExpansionCache.getDefault());
+    }
+
+    LambdaTransformer(ExpansionCache expansionCache) {
+        super();
+        this.expansionCache = expansionCache;
+    }
 
-    @SuppressWarnings("PMD.AvoidDuplicateLiterals")
     @Override
     protected String initTemplateSchema() {
-        return "lambdaArn:\n" + "  type: \"string\"\n" + "  required: true\n" + "lambdaRuntime:\n"
-                + "  type: \"string\"\n" + "  required: true\n" + "lambdaHandler:\n" + "  type: \"string\"\n"
-                + "  required: true\n" + "maxIdleTimeInSeconds:\n" + "  type: \"number\"\n" + "  required: false\n"
-                + "  defaultValue: 60\n" + "lambdaEnvironmentVariables:\n" + "  type: \"object\"\n"
-                + "  required: false\n" + "  defaultValue: {}\n" + "pinned:\n" + "  type: \"boolean\"\n"
-                + "  required: false\n" + "  defaultValue: true\n" + "lambdaArgs:\n" + "  type: \"array\"\n"
-                + "  required: false\n" + "  defaultValue: []\n" + "maxInstancesCount:\n" + "  type: \"number\"\n"
-                + "  required: false\n" + "  defaultValue: 100\n" + "pubsubTopics:\n" + "  type: \"array\"\n"
-                + "  required: false\n" + "  defaultValue: []\n" + "containerParams:\n" + "  type: \"object\"\n"
-                + "  required: false\n" + "  defaultValue:\n" + "    mountROSysfs: false\n" + "    volumes: []\n"
-                + "    devices: []\n" + "    memorySize: 16000\n" + "timeoutInSeconds:\n" + "  type: \"number\"\n"
-                + "  required: false\n" + "  defaultValue: 3\n" + "platforms:\n" + "  type: \"array\"\n"
-                + "  required: false\n" + "  defaultValue:\n" + "  - os: \"*\"\n" + "componentDependencies:\n"
-                + "  type: \"object\"\n" + "  required: false\n" + "  defaultValue: {}\n" + "maxQueueSize:\n"
-                + "  type: \"number\"\n" + "  required: false\n" + "  defaultValue: 1000\n"
-                + "statusTimeoutInSeconds:\n" + "  type: \"number\"\n" + "  required: false\n" + "  defaultValue: 60\n"
-                + "inputPayloadEncodingType:\n" + "  type: \"string\"\n" + "  required: false\n"
-                + "  defaultValue: \"json\"\n" + "containerMode:\n" + "  type: \"string\"\n" + "  required: false\n"
-                + "  defaultValue: \"GreengrassContainer\"\n";
+        // Generated from the defaults of LambdaTemplateParams at build time
+        String schema = LambdaTemplateSchema.text();
+        // The nucleus parses and validates the schema right after this returns
+        schemaRecording = FlightRecorderSupport.beginSchemaInitialization(schema);
+        return schema;
     }
 
     @Override
@@ -94,22 +104,101 @@ public class LambdaTransformer extends RecipeTransformer {
         return LambdaTemplateParams.class;
     }
 
+    @Override
+    protected void validateTemplateComponentConfig(TemplateParameterSchema templateRecipeSchema)
+            throws TemplateParameterException {
+        super.validateTemplateComponentConfig(templateRecipeSchema);
+        // This is the last step of the template initialization, so it ends the schema initialization event
+        schemaRecording.commit(templateRecipeSchema);
+        schemaRecording = SchemaInitializationRecording.NOOP;
+    }
+
+    @Override
+    public ComponentRecipe execute(ComponentRecipe paramFile) throws RecipeTransformerException {
+        // Same as RecipeTransformer#execute, keeping the bound parameters so that the metrics know the runtime
+        long startNanos = System.nanoTime();
+        try {
+            LambdaTemplateParams lambdaParameters = (LambdaTemplateParams) mergeAndValidateComponentParams(paramFile);
+            ComponentRecipe expandedRecipe = transform(paramFile, lambdaParameters);
+            metrics.expanded(lambdaParameters.getLambdaRuntime(), System.nanoTime() - startNanos);
+            return expandedRecipe;
+        } catch (RecipeTransformerException e) {
+            metrics.failed(e);
+            throw e;
+        }
+    }
+
+    @Override
+    protected Object mergeAndValidateComponentParams(ComponentRecipe paramFile) throws RecipeTransformerException {
+        PhaseTimer timer = TransformListeners.startTimer(paramFile);
+        Object componentParams = super.mergeAndValidateComponentParams(paramFile);
+        if (componentParams instanceof LambdaTemplateParams) {
+            timer.inputs((LambdaTemplateParams) componentParams);
+        }
+        timer.lap(TransformPhase.PARAMETER_MERGE);
+        return componentParams;
+    }
+
     @Override
     public ComponentRecipe transform(ComponentRecipe paramFile, Object componentParamsObj)
             throws RecipeTransformerException {
         LambdaTemplateParams lambdaParameters = (LambdaTemplateParams) componentParamsObj;
+        // Before the cache key is computed or anything is recorded or built, so that invalid parameters fail fast
+        // with all their problems
+        try {
+            LambdaTemplateParamsValidator.validate(lambdaParameters);
+        } catch (TemplateParameterException e) {
+            throw new RecipeTransformerException(e);
+        }
+        ExpansionKey cacheKey = null;
+        if (expansionCache.isEnabled()) {
+            try {
+                cacheKey = ExpansionKey.of(paramFile, lambdaParameters);
+            } catch (IOException e) {
+                throw new RecipeTransformerException(e);
+            }
+            ComponentRecipe cached = expansionCache.get(cacheKey);
+            if (cached != null) {
+                return cached;
+            }
+        }
+        TransformRecording recording = FlightRecorderSupport.beginTransform(paramFile, lambdaParameters);
+        ComponentRecipe expandedRecipe = expand(paramFile, lambdaParameters);
+        // The size comes from a serialization that happens anyway, the recorded event's or the cache's, if any
+        long outputSize = recording.commit(expandedRecipe);
+        if (cacheKey != null) {
+            int cachedSize = expansionCache.put(cacheKey, expandedRecipe);
+            if (outputSize < 0) {
+                outputSize = cachedSize;
+            }
+        }
+        if (outputSize < 0 && metrics.sampleOutputSize()) {
+            outputSize = outputSize(expandedRecipe);
+        }
+        if (outputSize >= 0) {
+            metrics.serialized(lambdaParameters.getLambdaRuntime(), outputSize);
+        }
+        return expandedRecipe;
+    }
 
-        List<Platform> componentPlatforms = lambdaParameters.getPlatforms();
-        if (componentPlatforms == null || componentPlatforms.isEmpty()) {
-            throw new RecipeTransformerException("At least one platform is expected to be set by caller");
+    // Only counted, the serialized bytes are not kept
+    private static long outputSize(ComponentRecipe expandedRecipe) {
+        try (CountingOutputStream counter = new CountingOutputStream()) {
+            SerializerFactory.getRecipeSerializerJson().writeValue(counter, expandedRecipe);
+            return counter.getCount();
+        } catch (IOException e) {
+            return -1;
         }
+    }
 
-        List<String> execArgs = getExecArgsSpecificToLambdaRuntime(lambdaParameters.getLambdaHandler(),
-                lambdaParameters.getLambdaRuntime());
+    private ComponentRecipe expand(ComponentRecipe paramFile, LambdaTemplateParams lambdaParameters)
+            throws RecipeTransformerException {
+        PhaseTimer timer = TransformListeners.startTimer(paramFile);
+        timer.inputs(lambdaParameters);
 
-        if (lambdaParameters.getExecArgs() != null) {
-            execArgs.addAll(lambdaParameters.getExecArgs());
-        }
+        List<String> execArgs = getExecArgsSpecificToLambdaRuntime(lambdaParameters.getLambdaHandler(),
+                lambdaParameters.getLambdaRuntime(), lambdaParameters.getExecArgs());
+        timer.lap(TransformPhase.EXEC_ARGS);
 
         // the same lifecycle exists per platform
         Map<String, Object> lifecycleMap;
@@ -123,32 +212,17 @@ public class LambdaTransformer extends RecipeTransformer {
         } catch (JsonProcessingException e) {
             throw new RecipeTransformerException(e);
         }
+        timer.lap(TransformPhase.LIFECYCLE);
 
-        ComponentConfiguration configuration = createConfigurationFromParameters(lambdaParameters);
-
-        //
-        // Creates an initial set of read-modify-write PlatformData. Additional functions can edit the PlatformData
-        // that is then used to produce all the manifests
-        //
-        List<PlatformData> perPlatform = lambdaParameters.getPlatforms().stream().map(platform -> {
-            PlatformData datum = new PlatformData();
-            datum.setPlatform(platform);
-            return datum;
-        }).collect(Collectors.toList());
-
-        List<ComponentArtifact> componentArtifactData = Collections.singletonList(ComponentArtifact.builder()
-                .uri(LAMBDA_COMPLETE_ARTIFACT_URI)
-                .unarchive(Unarchive.ZIP)
-                .build());
-        perPlatform.forEach(datum -> datum.setArtifacts(componentArtifactData));
+        final ComponentConfiguration configuration = createConfigurationFromParameters(lambdaParameters);
+        timer.lap(TransformPhase.CONFIGURATION);
 
-        Map<String, DependencyProperties> dependenciesMap = lambdaParameters.getComponentDependencies();
-        addLambdaDependencies(dependenciesMap);
+        Map<String, DependencyProperties> dependenciesMap =
+                withLambdaDependencies(lambdaParameters.getComponentDependencies());
+        timer.lap(TransformPhase.DEPENDENCIES);
 
-        List<PlatformSpecificManifest> manifests = perPlatform
-                .stream()
-                .map(PlatformData::buildManifest)
-                .collect(Collectors.toList());
+        List<PlatformSpecificManifest> manifests = buildManifests(lambdaParameters.getPlatforms());
+        timer.lap(TransformPhase.MANIFESTS);
 
         return ComponentRecipe.builder()
                 .recipeFormatVersion(RecipeFormatVersion.JAN_25_2020)
@@ -165,178 +239,121 @@ public class LambdaTransformer extends RecipeTransformer {
                 .build();
     }
 
-    private ComponentConfiguration createConfigurationFromParameters(LambdaTemplateParams lambdaParameters) {
-
-        Map<String, LambdaDeviceMount> devices = getDevices(lambdaParameters);
-        Map<String, LambdaVolumeMount> volumes = getVolumes(lambdaParameters);
-        Map<String, LambdaEventSource> pubSubTopics = getPubSubTopics(lambdaParameters);
-
-        DefaultConfiguration defaultConfiguration = DefaultConfiguration
-                .builder()
-                .containerMode(lambdaParameters.getContainerMode())
-                .lambdaExecutionParameters(
-                        LambdaExecutionParameters
-                                .builder()
-                                .environmentalVariables(lambdaParameters.getEnvironmentVariables())
-                                .build())
-                .containerParams(
-                        ContainerParams
-                                .builder()
-                                .devices(devices)
-                                .volumes(volumes)
-                                .memorySizeInKB(lambdaParameters.getContainerParams().getMemorySizeInKB())
-                                .mountROSysfs(lambdaParameters.getContainerParams().getMountROSysfs())
-                                .build())
-                .timeoutInSeconds(lambdaParameters.getTimeoutInSeconds())
-                .statusTimeoutInSeconds(lambdaParameters.getStatusTimeoutInSeconds())
-                .pinned(lambdaParameters.getPinned())
-                .inputPayloadEncodingType(lambdaParameters.getInputPayloadEncodingType())
-                .pubsubTopics(pubSubTopics)
-                .maxInstancesCount(lambdaParameters.getMaxInstancesCount())
-                .maxQueueSize(lambdaParameters.getMaxQueueSize())
-                .maxIdleTimeInSeconds(lambdaParameters.getMaxIdleTimeInSeconds())
-                .build();
-
-
-        return ComponentConfiguration
-                .builder()
-                .defaultConfiguration(mapper.convertValue(defaultConfiguration, JsonNode.class))
-                .build();
-    }
-
-
-    private Map<String, LambdaDeviceMount> getDevices(LambdaTemplateParams lambdaParameters) {
-        Map<String, LambdaDeviceMount> devices = new HashMap<>();
-
-        if (lambdaParameters.getContainerParams().getDevices() == null) {
-            return devices;
+    /**
+     * Patch from the expansion of a component's previous parameters to the expansion of its current ones, with the
+     * sections of the recipe that change, and every changed parameter classified as hot-updatable or restart-required.
+     * Equal parameters give {@link RecipePatch#EMPTY} without expanding anything, and with the {@link ExpansionCache}
+     * enabled, the previous expansion is usually cached already.
+     *
+     * @param paramFile parameter recipe of the component
+     * @param previous  previous bound template parameters
+     * @param current   current bound template parameters
+     * @return the patch against the previous expanded recipe
+     * @throws RecipeTransformerException if either parameters cannot be expanded
+     */
+    public RecipePatch diff(ComponentRecipe paramFile, LambdaTemplateParams previous, LambdaTemplateParams current)
+            throws RecipeTransformerException {
+        if (previous.equals(current)) {
+            return RecipePatch.EMPTY;
         }
+        return RecipeDiff.between(transform(paramFile, previous), transform(paramFile, current),
+                LambdaParameter.changesBetween(previous, current));
+    }
 
-        for (int i = 0; i < lambdaParameters.getContainerParams().getDevices().size(); i++) {
-            devices.put(Integer.toString(i), lambdaParameters.getContainerParams().getDevices().get(i));
-        }
-        return devices;
+    /**
+     * Patch from one parameter recipe's expansion to another's, such as two versions of a component, with every
+     * changed parameter classified as hot-updatable or restart-required.
+     *
+     * @param previousParamFile previous parameter recipe
+     * @param currentParamFile  current parameter recipe
+     * @return the patch against the previous expanded recipe
+     * @throws RecipeTransformerException if either recipe cannot be expanded
+     */
+    public RecipePatch diff(ComponentRecipe previousParamFile, ComponentRecipe currentParamFile)
+            throws RecipeTransformerException {
+        LambdaTemplateParams previous = (LambdaTemplateParams) mergeAndValidateComponentParams(previousParamFile);
+        LambdaTemplateParams current = (LambdaTemplateParams) mergeAndValidateComponentParams(currentParamFile);
+        return RecipeDiff.between(transform(previousParamFile, previous), transform(currentParamFile, current),
+                LambdaParameter.changesBetween(previous, current));
     }
 
-    private Map<String, LambdaVolumeMount> getVolumes(LambdaTemplateParams lambdaParameters) {
-        Map<String, LambdaVolumeMount> volumes = new HashMap<>();
+    // The individual phases below are package-private so that they can be benchmarked in isolation
 
-        if (lambdaParameters.getContainerParams().getVolumes() == null) {
-            return volumes;
-        }
+    List<PlatformSpecificManifest> buildManifests(List<Platform> platforms) {
+        //
+        // Creates an initial set of read-modify-write PlatformData. Additional functions can edit the PlatformData
+        // that is then used to produce all the manifests
+        //
+        List<PlatformData> perPlatform = platforms.stream().map(platform -> {
+            PlatformData datum = new PlatformData();
+            datum.setPlatform(platform);
+            return datum;
+        }).collect(Collectors.toList());
 
-        for (int i = 0; i < lambdaParameters.getContainerParams().getVolumes().size(); i++) {
-            volumes.put(Integer.toString(i), lambdaParameters.getContainerParams().getVolumes().get(i));
-        }
+        List<ComponentArtifact> componentArtifactData = Collections.singletonList(ComponentArtifact.builder()
+                .uri(LAMBDA_COMPLETE_ARTIFACT_URI)
+                .unarchive(Unarchive.ZIP)
+                .build());
+        perPlatform.forEach(datum -> datum.setArtifacts(componentArtifactData));
 
-        return volumes;
+        return perPlatform
+                .stream()
+                .map(PlatformData::buildManifest)
+                .collect(Collectors.toList());
     }
 
-    private Map<String, LambdaEventSource> getPubSubTopics(LambdaTemplateParams lambdaParameters) {
-        Map<String, LambdaEventSource> individualPubSubTopicMap = new HashMap<>();
-
-        if (lambdaParameters.getEventSources() == null || lambdaParameters.getEventSources().isEmpty()) {
-            return individualPubSubTopicMap;
-        }
+    ComponentConfiguration createConfigurationFromParameters(LambdaTemplateParams lambdaParameters) {
+        return ComponentConfiguration
+                .builder()
+                .defaultConfiguration(DefaultConfigurationWriter.write(lambdaParameters))
+                .build();
+    }
 
-        for (int i = 0; i < lambdaParameters.getEventSources().size(); i++) {
-            individualPubSubTopicMap.put(Integer.toString(i), lambdaParameters.getEventSources().get(i));
+    static List<String> getExecArgsSpecificToLambdaRuntime(String handlerName, LambdaRuntime runtime,
+                                                           List<String> extraArgs)
+            throws RecipeTransformerException {
+        ExecArgsTemplate template = LambdaComponentUtil.RUNTIME_TO_EXEC_ARGS_TEMPLATE.get(runtime);
+        // transform rejects unsupported runtimes up front; this is for callers of the phase alone
+        if (template == null) {
+            throw new RecipeTransformerException("The provided runtime for this lambdaFunction : "
+                    + runtime + " is not supported by Greengrass currently.");
         }
-
-        return individualPubSubTopicMap;
+        return template.build(handlerName, extraArgs);
     }
 
-    private static List<String> getExecArgsSpecificToLambdaRuntime(String handlerName, LambdaRuntime runtime)
-            throws RecipeTransformerException {
-        List<String> execArgs;
-        String handlerArgument = LAMBDA_EXEC_ARGS_HANDLER + handlerName;
-        switch (runtime) {
-            case Python27:
-                execArgs = new ArrayList<>(LambdaComponentUtil.RUNTIME_TO_EXEC_ARG_MAPPING.get(LambdaRuntime.Python27));
-                execArgs.remove(3);
-                execArgs.add(handlerArgument);
-                break;
-            case Python37:
-                execArgs = new ArrayList<>(LambdaComponentUtil.RUNTIME_TO_EXEC_ARG_MAPPING.get(LambdaRuntime.Python37));
-                execArgs.remove(3);
-                execArgs.add(handlerArgument);
-                break;
-            case Python38:
-                execArgs = new ArrayList<>(LambdaComponentUtil.RUNTIME_TO_EXEC_ARG_MAPPING.get(LambdaRuntime.Python38));
-                execArgs.remove(3);
-                execArgs.add(handlerArgument);
-                break;
-            case Java8:
-                execArgs = new ArrayList<>(LambdaComponentUtil.RUNTIME_TO_EXEC_ARG_MAPPING.get(LambdaRuntime.Java8));
-                execArgs.remove(2);
-                execArgs.add(handlerArgument);
-                break;
-            case Nodejs10X:
-                execArgs =
-                        new ArrayList<>(LambdaComponentUtil.RUNTIME_TO_EXEC_ARG_MAPPING.get(LambdaRuntime.Nodejs10X));
-                execArgs.remove(2);
-                execArgs.add(handlerArgument);
-                break;
-            case Nodejs12X:
-                execArgs =
-                        new ArrayList<>(LambdaComponentUtil.RUNTIME_TO_EXEC_ARG_MAPPING.get(LambdaRuntime.Nodejs12X));
-                execArgs.remove(2);
-                execArgs.add(handlerArgument);
-                break;
-            default:
-                throw new RecipeTransformerException("The provided runtime for this lambdaFunction : "
-                        + runtime + " is not supported by Greengrass currently.");
+    /**
+     * The component's dependencies and those of every Lambda component, in a new map sorted by name. The parameters
+     * are left as they are, so that the same parameters can be expanded again, or concurrently.
+     */
+    private static Map<String, DependencyProperties> withLambdaDependencies(
+            Map<String, DependencyProperties> componentDependencies) {
+        Map<String, DependencyProperties> dependencies = new TreeMap<>();
+        if (componentDependencies != null) {
+            dependencies.putAll(componentDependencies);
         }
-        return execArgs;
+        dependencies.putAll(LAMBDA_DEPENDENCIES);
+        return dependencies;
     }
 
-    private void addLambdaDependencies(Map<String, DependencyProperties> mapToAddTo) {
-        mapToAddTo.put(LAMBDA_LAUNCHER_DEPENDENCY_NAME,
+    private static Map<String, DependencyProperties> lambdaDependencies() {
+        Map<String, DependencyProperties> dependencies = new TreeMap<>();
+        dependencies.put(LAMBDA_LAUNCHER_DEPENDENCY_NAME,
                 DependencyProperties.builder().versionRequirement(LAMBDA_LAUNCHER_DEPENDENCY_VERSION_REQUIREMENTS)
                         .dependencyType(DependencyType.HARD).build());
-        mapToAddTo.put(LAMBDA_RUNTIME_DEPENDENCY_NAME,
+        dependencies.put(LAMBDA_RUNTIME_DEPENDENCY_NAME,
                 DependencyProperties.builder().versionRequirement(LAMBDA_RUNTIME_DEPENDENCY_VERSION_REQUIREMENTS)
                         .dependencyType(DependencyType.SOFT).build());
-        mapToAddTo.put(LAMBDA_TOKEN_EXCHANGE_SERVICE_DEPENDENCY_NAME,
+        dependencies.put(LAMBDA_TOKEN_EXCHANGE_SERVICE_DEPENDENCY_NAME,
                 DependencyProperties.builder().versionRequirement(LAMBDA_TOKEN_EXCHANGE_SERVICE_VERSION_REQUIREMENTS)
                         .dependencyType(DependencyType.HARD).build());
+        return Collections.unmodifiableMap(dependencies);
     }
 
-    private Map<String, Object> getLifecycleFromLambda(String lambdaArn, String handlerName,
-                                                       LambdaRuntime runtime,
-                                                       List<String> execArgs) throws JsonProcessingException {
-
-        Map<String, Object> individualLifeCycle = new HashMap<>();
-        individualLifeCycle.put(LifecycleType.setenv.toString().toLowerCase(), new HashMap<String, Object>());
-
-        Map<String, String> setenvIndividualMap =
-                (Map<String, String>) individualLifeCycle.get(LifecycleType.setenv.toString().toLowerCase());
-        setenvIndividualMap.put(LAMBDA_SETENV_CONTAINER_MODE_PARAM_NAME, "{configuration:/containerMode}");
-        setenvIndividualMap.put(LAMBDA_SETENV_ARN_PARAM_NAME, lambdaArn);
-        setenvIndividualMap.put(LAMBDA_SETENV_HANDLER_PARAM_NAME, handlerName);
-        setenvIndividualMap.put(LAMBDA_SETENV_ARTIFACT_PATH_PARAM_NAME, "{artifacts:decompressedPath}/"
-                + LAMBDA_ARTIFACT_NAME);
-        setenvIndividualMap.put(LAMBDA_SETENV_LAMBDA_PARAMS_PARAM_NAME, "{configuration:/lambdaExecutionParameters}");
-        setenvIndividualMap.put(LAMBDA_SETENV_LAMBDA_RUNTIME_PATH_PARAM_NAME,
-                "{" + LAMBDA_RUNTIME_DEPENDENCY_NAME + ":artifacts:decompressedPath}/runtime/");
-        setenvIndividualMap.put(LAMBDA_SETENV_LAMBDA_RUNTIME_PARAM_NAME, runtime.toString());
-        setenvIndividualMap.put(LAMBDA_SETENV_CONTAINER_PARAMS_PARAM_NAME, "{configuration:/containerParams}");
-        setenvIndividualMap.put(LAMBDA_SETENV_ENCODING_TYPE_PARAM_NAME, "{configuration:/inputPayloadEncodingType}");
-        setenvIndividualMap.put(LAMBDA_SETENV_STATUS_TIMEOUT_PARAM_NAME, "{configuration:/statusTimeoutInSeconds}");
-        setenvIndividualMap.put(LAMBDA_SETENV_EXEC_ARGS_PARAM_NAME, mapper.writeValueAsString(execArgs));
-
-        Map<String, Object> startup = new HashMap<>();
-        individualLifeCycle.put(LifecycleType.startup.toString(), startup);
-        startup.put("requiresPrivilege", true);
-        startup.put("script", "{" + LAMBDA_LAUNCHER_DEPENDENCY_NAME + ":artifacts:path}/lambda-launcher start");
-
-        Map<String, Object> shutdown = new HashMap<>();
-        individualLifeCycle.put(LifecycleType.shutdown.toString(), shutdown);
-        shutdown.put("requiresPrivilege", true);
-        shutdown.put("script", "{" + LAMBDA_LAUNCHER_DEPENDENCY_NAME + ":artifacts:path}/lambda-launcher stop;"
-                + " {" + LAMBDA_LAUNCHER_DEPENDENCY_NAME + ":artifacts:path}/lambda-launcher clean");
-
-        return individualLifeCycle;
+    Map<String, Object> getLifecycleFromLambda(String lambdaArn, String handlerName,
+                                               LambdaRuntime runtime,
+                                               List<String> execArgs) throws JsonProcessingException {
+        return LambdaComponentUtil.RUNTIME_TO_LIFECYCLE_TEMPLATE.get(runtime)
+                .build(lambdaArn, handlerName, TransformerSerializers.execArgsWriter().writeValueAsString(execArgs));
     }
 
     /**
@@ -0,0 +1,259 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.cache;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+import com.amazon.aws.iot.greengrass.component.common.SerializerFactory;
+
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.nio.file.InvalidPathException;
+import java.nio.file.Paths;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Bounded LRU cache of expanded recipes, by {@link ExpansionKey}. Expansions are kept serialized as JSON, and every
+ * hit deserializes a new recipe, so that a caller modifying its recipe never changes what later hits return. It is
+ * bounded both by entry count and by weight, the size of the serialized expansions, and evicts the least recently
+ * used expansions first. An expansion heavier than the whole cache is not kept.
+ *
+ * <p>Expansions can also be kept on disk, in a {@link PersistentExpansionCache} behind the one in memory, so that they
+ * survive restarts. An expansion read from disk is kept in memory too.
+ *
+ * <p>The cache is opt-in: set {@code -Dlambdatransformer.cache.maxEntries} to a positive count, and optionally
+ * {@code -Dlambdatransformer.cache.maxWeightBytes}. Set {@code -Dlambdatransformer.cache.directory} to a directory of
+ * the cache's own, usually under the transformer's work directory, to keep expansions on disk as well, and optionally
+ * {@code -Dlambdatransformer.cache.maxDiskBytes}. Safe to use from any thread.
+ *
+ * <p>The default cache is static, so it lives as long as the classloader of the transformer jar. The nucleus loads the
+ * jar again for every deployment, so expansions kept in memory are only hit within one deployment, such as by
+ * components sharing parameters or by {@code LambdaTransformer#diff}. Across deployments, hits come from the disk.
+ */
+public final class ExpansionCache implements ExpansionCacheMXBean {
+    public static final String OBJECT_NAME = "com.aws.greengrass.lambdatransformer:type=ExpansionCache";
+    public static final String MAX_ENTRIES_PROPERTY = "lambdatransformer.cache.maxEntries";
+    public static final String MAX_WEIGHT_BYTES_PROPERTY = "lambdatransformer.cache.maxWeightBytes";
+    public static final long DEFAULT_MAX_WEIGHT_BYTES = 16L * 1024 * 1024;
+    public static final String DIRECTORY_PROPERTY = "lambdatransformer.cache.directory";
+    public static final String MAX_DISK_BYTES_PROPERTY = "lambdatransformer.cache.maxDiskBytes";
+    public static final long DEFAULT_MAX_DISK_BYTES = 64L * 1024 * 1024;
+    public static final ExpansionCache DISABLED = new ExpansionCache(0, 0);
+
+    private static final ExpansionCache DEFAULT = fromSystemProperties();
+
+    private final int maxEntries;
+    private final long maxWeightBytes;
+    // Null when expansions are only kept in memory
+    private final PersistentExpansionCache persistent;
+    // In access order, so the eldest entry is the least recently used
+    private final Map<ExpansionKey, byte[]> expansions = new LinkedHashMap<>(16, 0.75f, true);
+    private long weightBytes;
+    private long hits;
+    private long misses;
+    private long diskHits;
+    private long evictions;
+
+    /**
+     * Create a cache.
+     *
+     * @param maxEntries     most expansions to keep, or 0 to disable the cache
+     * @param maxWeightBytes most total size of the expansions to keep, serialized as JSON
+     */
+    public ExpansionCache(int maxEntries, long maxWeightBytes) {
+        this(maxEntries, maxWeightBytes, null);
+    }
+
+    /**
+     * Create a cache that also keeps expansions on disk.
+     *
+     * @param maxEntries     most expansions to keep in memory, or 0 to keep them on disk only
+     * @param maxWeightBytes most total size of the expansions to keep in memory, serialized as JSON
+     * @param persistent     cache on disk, or null for none
+     */
+    public ExpansionCache(int maxEntries, long maxWeightBytes, PersistentExpansionCache persistent) {
+        this.maxEntries = Math.max(maxEntries, 0);
+        this.maxWeightBytes = Math.max(maxWeightBytes, 0);
+        this.persistent = persistent;
+    }
+
+    /**
+     * The cache configured by system properties, shared by every transformer, or {@link #DISABLED}.
+     *
+     * @return the default cache
+     */
+    public static ExpansionCache getDefault() {
+        return DEFAULT;
+    }
+
+    public boolean isEnabled() {
+        return isKeptInMemory() || persistent != null;
+    }
+
+    /**
+     * Look up an expansion in memory, then on disk, counting the hit or miss.
+     *
+     * @param key expansion key
+     * @return a new instance of the cached recipe, or null
+     */
+    public ComponentRecipe get(ExpansionKey key) {
+        byte[] json;
+        synchronized (this) {
+            json = expansions.get(key);
+            if (json == null && persistent == null) {
+                misses++;
+                return null;
+            }
+            if (json != null) {
+                hits++;
+            }
+        }
+        // Deserialized and read without the lock, they are the expensive part
+        if (json != null) {
+            try {
+                return SerializerFactory.getRecipeSerializerJson().readValue(json, ComponentRecipe.class);
+            } catch (IOException e) {
+                // Written by put, so this cannot happen, but then the recipe is simply expanded again
+                return null;
+            }
+        }
+        Expansion stored = persistent.read(key);
+        synchronized (this) {
+            if (stored == null) {
+                misses++;
+                return null;
+            }
+            diskHits++;
+            keep(key, stored.json);
+            return stored.recipe;
+        }
+    }
+
+    /**
+     * Keep an expansion, evicting the least recently used ones as needed.
+     *
+     * @param key    expansion key
+     * @param recipe expanded recipe, which the cache does not hold on to
+     * @return size of the recipe serialized as JSON, or -1 if the cache is disabled or the recipe cannot be serialized
+     */
+    public int put(ExpansionKey key, ComponentRecipe recipe) {
+        if (!isEnabled()) {
+            return -1;
+        }
+        // Serialized before locking, it is the expensive part
+        byte[] json;
+        try {
+            json = SerializerFactory.getRecipeSerializerJson().writeValueAsBytes(recipe);
+        } catch (IOException e) {
+            // Not serializable, so not worth keeping
+            return -1;
+        }
+        if (persistent != null) {
+            persistent.write(key, json);
+        }
+        synchronized (this) {
+            keep(key, json);
+        }
+        return json.length;
+    }
+
+    // Called with the lock held
+    private void keep(ExpansionKey key, byte[] json) {
+        if (!isKeptInMemory() || json.length > maxWeightBytes) {
+            return;
+        }
+        byte[] replaced = expansions.put(key, json);
+        if (replaced != null) {
+            weightBytes -= replaced.length;
+        }
+        weightBytes += json.length;
+        Iterator<byte[]> eldest = expansions.values().iterator();
+        while (expansions.size() > maxEntries || weightBytes > maxWeightBytes) {
+            weightBytes -= eldest.next().length;
+            eldest.remove();
+            evictions++;
+        }
+    }
+
+    private boolean isKeptInMemory() {
+        return maxEntries > 0 && maxWeightBytes > 0;
+    }
+
+    @Override
+    public synchronized long getHits() {
+        return hits;
+    }
+
+    @Override
+    public synchronized long getMisses() {
+        return misses;
+    }
+
+    @Override
+    public synchronized long getDiskHits() {
+        return diskHits;
+    }
+
+    @Override
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    @Override
+    public synchronized int getEntries() {
+        return expansions.size();
+    }
+
+    @Override
+    public synchronized long getWeightBytes() {
+        return weightBytes;
+    }
+
+    private static ExpansionCache fromSystemProperties() {
+        PersistentExpansionCache persistent = null;
+        String directory = System.getProperty(DIRECTORY_PROPERTY);
+        if (directory != null && !directory.isEmpty()) {
+            try {
+                persistent = PersistentExpansionCache.open(Paths.get(directory),
+                        Long.getLong(MAX_DISK_BYTES_PROPERTY, DEFAULT_MAX_DISK_BYTES));
+            } catch (IOException | InvalidPathException e) {
+                // Expansions are then kept in memory only, if at all
+            }
+        }
+        ExpansionCache cache = new ExpansionCache(Integer.getInteger(MAX_ENTRIES_PROPERTY, 0),
+                Long.getLong(MAX_WEIGHT_BYTES_PROPERTY, DEFAULT_MAX_WEIGHT_BYTES), persistent);
+        if (!cache.isEnabled()) {
+            return DISABLED;
+        }
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            // Left behind by a previous load of the transformer jar
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(cache, name);
+        } catch (JMException | SecurityException e) {
+            // The cache still works, its counters just cannot be read over JMX
+        }
+        return cache;
+    }
+
+    // An expansion read from disk: the recipe for the caller, and its JSON to keep in memory
+    static final class Expansion {
+        private final ComponentRecipe recipe;
+        private final byte[] json;
+
+        Expansion(ComponentRecipe recipe, byte[] json) {
+            this.recipe = recipe;
+            this.json = json;
+        }
+    }
+}
@@ -0,0 +1,54 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.cache;
+
+/**
+ * Counters of the expansion cache, published over JMX as {@value ExpansionCache#OBJECT_NAME} when the cache is
+ * enabled.
+ */
+public interface ExpansionCacheMXBean {
+    /**
+     * Expansions returned from the cache.
+     *
+     * @return hit count
+     */
+    long getHits();
+
+    /**
+     * Expansions that were not in memory but were read from disk, when expansions are kept on disk.
+     *
+     * @return disk hit count
+     */
+    long getDiskHits();
+
+    /**
+     * Expansions that were not in the cache, and so were built.
+     *
+     * @return miss count
+     */
+    long getMisses();
+
+    /**
+     * Expansions removed from memory to make room for newer ones.
+     *
+     * @return eviction count
+     */
+    long getEvictions();
+
+    /**
+     * Expansions in memory.
+     *
+     * @return entry count
+     */
+    int getEntries();
+
+    /**
+     * Total size of the expansions in memory, serialized as JSON, in bytes.
+     *
+     * @return weight in bytes
+     */
+    long getWeightBytes();
+}
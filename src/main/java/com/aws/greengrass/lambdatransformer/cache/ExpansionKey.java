@@ -0,0 +1,88 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.cache;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+import com.aws.greengrass.lambdatransformer.common.utils.CountingOutputStream;
+import com.aws.greengrass.lambdatransformer.common.utils.Digests;
+import com.aws.greengrass.lambdatransformer.common.utils.TransformerSerializers;
+import com.fasterxml.jackson.databind.ObjectWriter;
+
+import java.io.IOException;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * SHA-256 digest of everything an expansion depends on: the name, version and description of the parameter recipe,
+ * and the merged template parameters. They are serialized canonically, with properties and map keys sorted, so
+ * equal parameters always have the same key, whatever the order of their maps.
+ */
+public final class ExpansionKey {
+    private static final ObjectWriter CANONICAL_WRITER =
+            TransformerSerializers.canonicalWriter(TransformerSerializers.jsonMapper());
+
+    private final byte[] digest;
+    private final int hash;
+
+    private ExpansionKey(byte[] digest) {
+        this.digest = digest;
+        this.hash = Arrays.hashCode(digest);
+    }
+
+    /**
+     * Key of the expansion of a parameter recipe.
+     *
+     * @param paramFile parameter recipe
+     * @param params    its merged template parameters
+     * @return the key
+     * @throws IOException if the parameters cannot be serialized
+     */
+    public static ExpansionKey of(ComponentRecipe paramFile, LambdaTemplateParams params) throws IOException {
+        Map<String, Object> inputs = new LinkedHashMap<>();
+        inputs.put("componentName", paramFile.getComponentName());
+        inputs.put("componentVersion",
+                paramFile.getComponentVersion() == null ? null : paramFile.getComponentVersion().getValue());
+        inputs.put("componentDescription", paramFile.getComponentDescription());
+        inputs.put("templateParameters", params);
+        MessageDigest messageDigest = Digests.sha256();
+        // The digest is all that is kept, so the serialized bytes are only counted
+        try (DigestOutputStream out = new DigestOutputStream(new CountingOutputStream(), messageDigest)) {
+            CANONICAL_WRITER.writeValue(out, inputs);
+        }
+        return new ExpansionKey(messageDigest.digest());
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof ExpansionKey)) {
+            return false;
+        }
+        ExpansionKey other = (ExpansionKey) o;
+        return hash == other.hash && Arrays.equals(digest, other.digest);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /**
+     * The digest in lowercase hex.
+     *
+     * @return 64 hex digits
+     */
+    @Override
+    public String toString() {
+        return Digests.hex(digest);
+    }
+}
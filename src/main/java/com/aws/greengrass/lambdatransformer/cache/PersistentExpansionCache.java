@@ -0,0 +1,271 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.cache;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+import com.amazon.aws.iot.greengrass.component.common.SerializerFactory;
+import com.aws.greengrass.lambdatransformer.LambdaTransformer;
+import com.aws.greengrass.lambdatransformer.common.utils.Digests;
+
+import java.io.IOException;
+import java.net.URISyntaxException;
+import java.nio.ByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.DirectoryStream;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.nio.file.StandardCopyOption;
+import java.nio.file.StandardOpenOption;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.nio.file.attribute.FileTime;
+import java.security.CodeSource;
+import java.security.MessageDigest;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_LAUNCHER_DEPENDENCY_NAME;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_LAUNCHER_DEPENDENCY_VERSION_REQUIREMENTS;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_RUNTIME_DEPENDENCY_NAME;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_RUNTIME_DEPENDENCY_VERSION_REQUIREMENTS;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_TOKEN_EXCHANGE_SERVICE_DEPENDENCY_NAME;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_TOKEN_EXCHANGE_SERVICE_VERSION_REQUIREMENTS;
+
+/**
+ * Expanded recipes kept on disk, so that they survive restarts of the nucleus. Each expansion is one JSON file named
+ * by its {@link ExpansionKey}, so the directory is the index from digest to recipe. Files are written to a temporary
+ * file and then renamed, so a crash never leaves a partial expansion behind. Once the files are larger than the cap in
+ * total, the least recently used ones are deleted.
+ *
+ * <p>Expansions are kept in a subdirectory, the generation, named after the transformer version, the size and
+ * modification time of the transformer's jar and the version requirements of the Lambda dependencies. The jar's size
+ * and time tell apart builds of the same SNAPSHOT version without reading the jar. Opening the cache deletes the other
+ * generations, since their expansions would differ, and leaves anything else in the directory alone. Safe to use from
+ * any thread, but not from two processes at once.
+ */
+public final class PersistentExpansionCache {
+    private static final String ENTRY_SUFFIX = ".json";
+    private static final String TEMP_SUFFIX = ".tmp";
+    // Enough of a digest to tell versions apart in a directory name
+    private static final int GENERATION_LENGTH = 16;
+    private static final Pattern GENERATION = Pattern.compile("[0-9a-f]{" + GENERATION_LENGTH + "}");
+
+    private final Path directory;
+    private final long maxBytes;
+    private long sizeBytes;
+    private long evictions;
+
+    private PersistentExpansionCache(Path directory, long maxBytes, long sizeBytes) {
+        this.directory = directory;
+        this.maxBytes = maxBytes;
+        this.sizeBytes = sizeBytes;
+    }
+
+    /**
+     * Open the cache in a directory, creating it if needed, and clean up what other versions and crashes left.
+     *
+     * @param root     a directory of the cache's own, such as a subdirectory of the transformer's work directory
+     * @param maxBytes most total size of the expansion files
+     * @return the cache
+     * @throws IOException if the directory cannot be created or cleaned up
+     */
+    public static PersistentExpansionCache open(Path root, long maxBytes) throws IOException {
+        String generation = generation(LambdaTransformer.class.getPackage().getImplementationVersion(),
+                codeStamp());
+        Files.createDirectories(root);
+        try (DirectoryStream<Path> generations = Files.newDirectoryStream(root)) {
+            for (Path stale : generations) {
+                String name = String.valueOf(stale.getFileName());
+                if (!name.equals(generation) && GENERATION.matcher(name).matches() && Files.isDirectory(stale)) {
+                    deleteGeneration(stale);
+                }
+            }
+        }
+        Path directory = Files.createDirectories(root.resolve(generation));
+        long sizeBytes = 0;
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(directory)) {
+            for (Path file : files) {
+                if (String.valueOf(file.getFileName()).endsWith(ENTRY_SUFFIX)) {
+                    sizeBytes += Files.size(file);
+                } else {
+                    // Left by a crash between writing and renaming
+                    Files.delete(file);
+                }
+            }
+        }
+        return new PersistentExpansionCache(directory, Math.max(maxBytes, 0), sizeBytes);
+    }
+
+    /**
+     * Name of the subdirectory of a transformer build: a digest of the version, of the build and of the Lambda
+     * dependencies that every expansion adds, which are the inputs of an expansion that are not part of its key.
+     */
+    static String generation(String transformerVersion, String codeStamp) {
+        MessageDigest digest = Digests.sha256();
+        String inputs = String.join("\n", String.valueOf(transformerVersion), codeStamp,
+                LAMBDA_LAUNCHER_DEPENDENCY_NAME, LAMBDA_LAUNCHER_DEPENDENCY_VERSION_REQUIREMENTS,
+                LAMBDA_RUNTIME_DEPENDENCY_NAME, LAMBDA_RUNTIME_DEPENDENCY_VERSION_REQUIREMENTS,
+                LAMBDA_TOKEN_EXCHANGE_SERVICE_DEPENDENCY_NAME, LAMBDA_TOKEN_EXCHANGE_SERVICE_VERSION_REQUIREMENTS);
+        return Digests.hex(digest.digest(inputs.getBytes(StandardCharsets.UTF_8))).substring(0,
+                GENERATION_LENGTH);
+    }
+
+    /**
+     * Identifies the build of the transformer from the size and modification time of its jar, or of its class file
+     * when it is not packaged, which takes a single file lookup however large the jar is. Empty if the code source
+     * cannot be found, so the generation then only follows the version.
+     */
+    static String codeStamp() {
+        CodeSource codeSource = LambdaTransformer.class.getProtectionDomain().getCodeSource();
+        if (codeSource == null || codeSource.getLocation() == null) {
+            return "";
+        }
+        try {
+            Path location = Paths.get(codeSource.getLocation().toURI());
+            if (Files.isDirectory(location)) {
+                location = location.resolve(LambdaTransformer.class.getName().replace('.', '/') + ".class");
+            }
+            return codeStamp(location);
+        } catch (URISyntaxException | IOException | IllegalArgumentException e) {
+            return "";
+        }
+    }
+
+    static String codeStamp(Path file) throws IOException {
+        BasicFileAttributes attributes = Files.readAttributes(file, BasicFileAttributes.class);
+        return attributes.size() + ":" + attributes.lastModifiedTime().toMillis();
+    }
+
+    /**
+     * Read an expansion, marking it as recently used.
+     *
+     * @param key expansion key
+     * @return the expansion, or null if it is not kept or cannot be read
+     */
+    ExpansionCache.Expansion read(ExpansionKey key) {
+        Path file = entry(key);
+        try {
+            // Read rather than mapped: a mapping stays open until collected, and on Windows it blocks deleting and
+            // replacing the file
+            byte[] json = Files.readAllBytes(file);
+            ComponentRecipe recipe = SerializerFactory.getRecipeSerializerJson().readValue(json,
+                    ComponentRecipe.class);
+            Files.setLastModifiedTime(file, FileTime.fromMillis(System.currentTimeMillis()));
+            return new ExpansionCache.Expansion(recipe, json);
+        } catch (NoSuchFileException e) {
+            return null;
+        } catch (IOException e) {
+            // Not a recipe of this version after all, so it is expanded and written again
+            remove(file);
+            return null;
+        }
+    }
+
+    /**
+     * Keep an expansion, deleting the least recently used ones if the files are then over the cap.
+     *
+     * @param key  expansion key
+     * @param json expanded recipe, serialized as JSON
+     */
+    void write(ExpansionKey key, byte[] json) {
+        if (json.length > maxBytes) {
+            return;
+        }
+        Path file = entry(key);
+        Path temp = null;
+        try {
+            temp = Files.createTempFile(directory, key.toString(), TEMP_SUFFIX);
+            try (FileChannel channel = FileChannel.open(temp, StandardOpenOption.WRITE)) {
+                ByteBuffer buffer = ByteBuffer.wrap(json);
+                while (buffer.hasRemaining()) {
+                    channel.write(buffer);
+                }
+                // On disk before the rename, so that the renamed file is never empty after a power loss
+                channel.force(true);
+            }
+            synchronized (this) {
+                long replaced = Files.exists(file) ? Files.size(file) : 0;
+                Files.move(temp, file, StandardCopyOption.ATOMIC_MOVE);
+                sizeBytes += json.length - replaced;
+                if (sizeBytes > maxBytes) {
+                    evict();
+                }
+            }
+        } catch (IOException e) {
+            // The expansion is simply not kept
+            if (temp != null) {
+                delete(temp);
+            }
+        }
+    }
+
+    public synchronized long getSizeBytes() {
+        return sizeBytes;
+    }
+
+    public synchronized long getEvictions() {
+        return evictions;
+    }
+
+    // Called with the lock held, and only once over the cap, so listing the directory is rare
+    private void evict() throws IOException {
+        List<Path> files = new ArrayList<>();
+        try (DirectoryStream<Path> entries = Files.newDirectoryStream(directory, "*" + ENTRY_SUFFIX)) {
+            entries.forEach(files::add);
+        }
+        Map<Path, FileTime> lastUsed = new HashMap<>();
+        for (Path file : files) {
+            lastUsed.put(file, Files.getLastModifiedTime(file));
+        }
+        files.sort(Comparator.comparing(lastUsed::get));
+        for (Path file : files) {
+            if (sizeBytes <= maxBytes) {
+                break;
+            }
+            if (remove(file)) {
+                evictions++;
+            }
+        }
+    }
+
+    private synchronized boolean remove(Path file) {
+        try {
+            long size = Files.size(file);
+            Files.delete(file);
+            sizeBytes -= size;
+            return true;
+        } catch (IOException e) {
+            return false;
+        }
+    }
+
+    private Path entry(ExpansionKey key) {
+        return directory.resolve(key + ENTRY_SUFFIX);
+    }
+
+    private static void deleteGeneration(Path stale) throws IOException {
+        try (DirectoryStream<Path> files = Files.newDirectoryStream(stale)) {
+            for (Path file : files) {
+                Files.delete(file);
+            }
+        }
+        Files.delete(stale);
+    }
+
+    private static boolean delete(Path file) {
+        try {
+            return Files.deleteIfExists(file);
+        } catch (IOException e) {
+            return false;
+        }
+    }
+}
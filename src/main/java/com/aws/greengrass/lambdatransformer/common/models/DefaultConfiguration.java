@@ -13,6 +13,10 @@ import lombok.Setter;
 
 import java.util.Map;
 
+/**
+ * The shape of the {@code defaultConfiguration} of a Lambda component, for callers that read it back. Expansion writes
+ * the tree directly with {@code DefaultConfigurationWriter} and never builds this model, so it stays a mutable bean.
+ */
 @Builder
 @Getter
 @Setter
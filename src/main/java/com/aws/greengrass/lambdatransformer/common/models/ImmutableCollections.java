@@ -0,0 +1,150 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.common.models;
+
+import java.util.AbstractList;
+import java.util.AbstractMap;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.RandomAccess;
+import java.util.Set;
+import java.util.function.BiConsumer;
+
+/**
+ * Immutable copies of the list and map properties of the parameter models. A collection that is already one of these
+ * copies, or an immutable empty or singleton collection, is shared instead of copied again, so models built from the
+ * properties of other models share their collections.
+ */
+final class ImmutableCollections {
+    // Collections that are known to be immutable
+    private static final Set<Class<?>> IMMUTABLE_LISTS = classes(ImmutableList.class,
+            Collections.emptyList().getClass(), Collections.singletonList(null).getClass());
+    private static final Set<Class<?>> IMMUTABLE_MAPS = classes(ImmutableMap.class,
+            Collections.emptyMap().getClass(), Collections.singletonMap(null, null).getClass());
+
+    private ImmutableCollections() {
+    }
+
+    /**
+     * Immutable copy of a list, in the same order.
+     *
+     * @param list     list to copy, may be null
+     * @param whenNull immutable list to use when {@code list} is null
+     * @param <T>      element type
+     * @return an immutable list
+     */
+    @SuppressWarnings("unchecked")
+    static <T> List<T> copyOf(List<? extends T> list, List<T> whenNull) {
+        if (list == null) {
+            return whenNull;
+        }
+        if (IMMUTABLE_LISTS.contains(list.getClass())) {
+            return (List<T>) list;
+        }
+        switch (list.size()) {
+            case 0:
+                return Collections.emptyList();
+            case 1:
+                return Collections.singletonList(list.iterator().next());
+            default:
+                return new ImmutableList<>(list.toArray());
+        }
+    }
+
+    /**
+     * Immutable copy of a map, in the same iteration order.
+     *
+     * @param map      map to copy, may be null
+     * @param whenNull immutable map to use when {@code map} is null
+     * @param <K>      key type
+     * @param <V>      value type
+     * @return an immutable map
+     */
+    @SuppressWarnings("unchecked")
+    static <K, V> Map<K, V> copyOf(Map<? extends K, ? extends V> map, Map<K, V> whenNull) {
+        if (map == null) {
+            return whenNull;
+        }
+        if (IMMUTABLE_MAPS.contains(map.getClass())) {
+            return (Map<K, V>) map;
+        }
+        switch (map.size()) {
+            case 0:
+                return Collections.emptyMap();
+            case 1:
+                Map.Entry<? extends K, ? extends V> entry = map.entrySet().iterator().next();
+                return Collections.singletonMap(entry.getKey(), entry.getValue());
+            default:
+                return new ImmutableMap<>(new LinkedHashMap<>(map));
+        }
+    }
+
+    private static Set<Class<?>> classes(Class<?>... classes) {
+        return Collections.unmodifiableSet(new HashSet<>(Arrays.asList(classes)));
+    }
+
+    // Backed by the array alone, without the ArrayList and wrapper that Collections.unmodifiableList would need
+    private static final class ImmutableList<T> extends AbstractList<T> implements RandomAccess {
+        private final Object[] elements;
+
+        ImmutableList(Object... elements) {
+            super();
+            this.elements = elements;
+        }
+
+        @Override
+        @SuppressWarnings("unchecked")
+        public T get(int index) {
+            return (T) elements[index];
+        }
+
+        @Override
+        public int size() {
+            return elements.length;
+        }
+    }
+
+    private static final class ImmutableMap<K, V> extends AbstractMap<K, V> {
+        private final Map<K, V> map;
+        private final Set<Entry<K, V>> entrySet;
+
+        ImmutableMap(Map<K, V> map) {
+            super();
+            this.map = map;
+            this.entrySet = Collections.unmodifiableMap(map).entrySet();
+        }
+
+        @Override
+        public Set<Entry<K, V>> entrySet() {
+            return entrySet;
+        }
+
+        @Override
+        public V get(Object key) {
+            return map.get(key);
+        }
+
+        @Override
+        public boolean containsKey(Object key) {
+            return map.containsKey(key);
+        }
+
+        @Override
+        public int size() {
+            return map.size();
+        }
+
+        // Without the entry wrappers of the unmodifiable entry set
+        @Override
+        public void forEach(BiConsumer<? super K, ? super V> action) {
+            map.forEach(action);
+        }
+    }
+}
@@ -5,24 +5,87 @@
 
 package com.aws.greengrass.lambdatransformer.common.models;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AccessLevel;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Objects;
 
 import static com.aws.greengrass.lambdatransformer.common.Constants.DEFAULT_ADD_GROUP_OWNER;
 import static com.aws.greengrass.lambdatransformer.common.Constants.DEFAULT_LAMBDA_FILE_SYSTEM_PERMISSION;
 
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class LambdaDeviceMount {
-    private String path;
+/**
+ * Immutable, so instances can be shared between threads and used as keys. Null permission and addGroupOwner take
+ * their defaults.
+ */
+@Getter
+@ToString
+public final class LambdaDeviceMount {
+    private final String path;
+    private final LambdaFilesystemPermission permission;
+    @Getter(AccessLevel.NONE)
+    private final boolean addGroupOwner;
+
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private int hash;
+
+    /**
+     * Build a device mount.
+     *
+     * @param path          path of the device
+     * @param permission    access to the device, null for the default
+     * @param addGroupOwner whether to add the Lambda's group as owner, null for the default
+     */
+    @Builder
+    @JsonCreator
+    public LambdaDeviceMount(@JsonProperty("path") String path,
+                             @JsonProperty("permission") LambdaFilesystemPermission permission,
+                             @JsonProperty("addGroupOwner") Boolean addGroupOwner) {
+        this.path = path;
+        this.permission = permission == null ? DEFAULT_LAMBDA_FILE_SYSTEM_PERMISSION : permission;
+        this.addGroupOwner = addGroupOwner == null ? DEFAULT_ADD_GROUP_OWNER : addGroupOwner;
+    }
+
+    public boolean isAddGroupOwner() {
+        return addGroupOwner;
+    }
+
+    /**
+     * Whether to add the Lambda's group as owner, under the getter name of the mutable model.
+     *
+     * @return same as {@link #isAddGroupOwner()}
+     * @deprecated use {@link #isAddGroupOwner()}
+     */
+    @Deprecated
+    public Boolean getAddGroupOwner() {
+        return addGroupOwner;
+    }
 
-    @Builder.Default
-    private LambdaFilesystemPermission permission = DEFAULT_LAMBDA_FILE_SYSTEM_PERMISSION;
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LambdaDeviceMount)) {
+            return false;
+        }
+        LambdaDeviceMount other = (LambdaDeviceMount) o;
+        return hashCode() == other.hashCode() && addGroupOwner == other.addGroupOwner
+                && permission == other.permission && Objects.equals(path, other.path);
+    }
 
-    @Builder.Default
-    private Boolean addGroupOwner = DEFAULT_ADD_GROUP_OWNER;
+    @Override
+    public int hashCode() {
+        // Computed at most once per thread, and always to the same value
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(path, permission, addGroupOwner);
+            hash = h;
+        }
+        return h;
+    }
 }
@@ -5,20 +5,59 @@
 
 package com.aws.greengrass.lambdatransformer.common.models;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AccessLevel;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
-
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class LambdaEventSource {
-    private String topic;
-    private LambdaEventSourceType type;
-
-    private enum LambdaEventSourceType {
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Objects;
+
+/**
+ * Immutable, so instances can be shared between threads and used as keys.
+ */
+@Getter
+@ToString
+public final class LambdaEventSource {
+    private final String topic;
+    private final LambdaEventSourceType type;
+
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private int hash;
+
+    @Builder
+    @JsonCreator
+    public LambdaEventSource(@JsonProperty("topic") String topic, @JsonProperty("type") LambdaEventSourceType type) {
+        this.topic = topic;
+        this.type = type;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LambdaEventSource)) {
+            return false;
+        }
+        LambdaEventSource other = (LambdaEventSource) o;
+        return hashCode() == other.hashCode() && Objects.equals(topic, other.topic) && type == other.type;
+    }
+
+    @Override
+    public int hashCode() {
+        // Computed at most once per thread, and always to the same value
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(topic, type);
+            hash = h;
+        }
+        return h;
+    }
+
+    public enum LambdaEventSourceType {
         PUB_SUB,
         IOT_CORE,
     }
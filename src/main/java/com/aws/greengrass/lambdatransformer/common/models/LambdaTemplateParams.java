@@ -7,16 +7,18 @@ package com.aws.greengrass.lambdatransformer.common.models;
 
 import com.amazon.aws.iot.greengrass.component.common.DependencyProperties;
 import com.amazon.aws.iot.greengrass.component.common.Platform;
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import lombok.AllArgsConstructor;
+import lombok.AccessLevel;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Getter;
 import lombok.NonNull;
+import lombok.ToString;
 
 import java.util.Collections;
 import java.util.List;
 import java.util.Map;
+import java.util.Objects;
 
 import static com.aws.greengrass.lambdatransformer.common.Constants.DEFAULT_LAMBDA_INPUT_PAYLOAD_ENCODING_TYPE;
 import static com.aws.greengrass.lambdatransformer.common.Constants.DEFAULT_LAMBDA_ISOLATION_MODE;
@@ -27,63 +29,192 @@ import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_RECIP
 import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_RECIPE_DEFAULT_STATUS_TIMEOUT_IN_SEC;
 import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_RECIPE_DEFAULT_TIMEOUT_IN_SEC;
 
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
+/**
+ * Template parameters of one Lambda component. Immutable, so instances can be shared between threads and used as
+ * keys. Null properties take their defaults, the same as absent ones, and the lists and maps are immutable copies.
+ * The exception is the builder's {@code platforms(null)}, which means no platforms, so that the transformer rejects
+ * it. Only the elements of {@code platforms} are shared as given, since {@code Platform} is a map of component-common.
+ * Defaults that are objects are the shared instances {@link #DEFAULT_PLATFORMS} and
+ * {@link TemplateContainerParams#DEFAULTS}.
+ */
 // Similar, but not exactly equal to LambdaExecutionParameters in ComponentManagementService
-public class LambdaTemplateParams {
-    @NonNull
-    private String lambdaArn;
-
-    @NonNull
-    private LambdaRuntime lambdaRuntime;
-
-    @NonNull
-    private String lambdaHandler;
+@Getter
+@ToString
+public final class LambdaTemplateParams {
+    /**
+     * Platforms when none are given: any operating system. Shared like {@code Platform.EMPTY}, so the platform must
+     * not be modified.
+     */
+    public static final List<Platform> DEFAULT_PLATFORMS =
+            Collections.singletonList(Platform.builder().os(Platform.OS.ALL).build());
+
+    private final String lambdaArn;
+    private final LambdaRuntime lambdaRuntime;
+    private final String lambdaHandler;
 
     @JsonProperty("pubsubTopics")
-    @Builder.Default
-    private List<LambdaEventSource> eventSources = Collections.emptyList();
-
-    @Builder.Default
-    private Integer timeoutInSeconds = LAMBDA_RECIPE_DEFAULT_TIMEOUT_IN_SEC;
-
-    @Builder.Default
-    private Boolean pinned = LAMBDA_RECIPE_DEFAULT_PINNED;
-
-    @Builder.Default
-    private Integer statusTimeoutInSeconds = LAMBDA_RECIPE_DEFAULT_STATUS_TIMEOUT_IN_SEC;
-
-    @Builder.Default
-    private Integer maxQueueSize = LAMBDA_RECIPE_DEFAULT_MAX_QUEUE_SIZE;
-
-    @Builder.Default
-    private Integer maxInstancesCount = LAMBDA_RECIPE_DEFAULT_MAX_INSTANCE_COUNT;
-
-    @Builder.Default
-    private Integer maxIdleTimeInSeconds = LAMBDA_RECIPE_DEFAULT_MAX_IDLE_TIME_IN_SEC;
-
-    @Builder.Default
-    private LambdaInputPayloadEncodingType inputPayloadEncodingType = DEFAULT_LAMBDA_INPUT_PAYLOAD_ENCODING_TYPE;
-
-    @Builder.Default
-    private List<Platform> platforms = Collections.singletonList(Platform.builder().os(Platform.OS.ALL).build());
-
-    @Builder.Default
-    private Map<String, DependencyProperties> componentDependencies = Collections.emptyMap();
+    private final List<LambdaEventSource> eventSources;
+    private final int timeoutInSeconds;
+    @Getter(AccessLevel.NONE)
+    private final boolean pinned;
+    private final int statusTimeoutInSeconds;
+    private final int maxQueueSize;
+    private final int maxInstancesCount;
+    private final int maxIdleTimeInSeconds;
+    private final LambdaInputPayloadEncodingType inputPayloadEncodingType;
+    private final List<Platform> platforms;
+    private final Map<String, DependencyProperties> componentDependencies;
 
     @JsonProperty("lambdaArgs")
-    @Builder.Default
-    private List<String> execArgs = Collections.emptyList();
+    private final List<String> execArgs;
 
     @JsonProperty("lambdaEnvironmentVariables")
-    @Builder.Default
-    private Map<String, String> environmentVariables = Collections.emptyMap();
-
-    @Builder.Default
-    private LambdaIsolationMode containerMode = DEFAULT_LAMBDA_ISOLATION_MODE;
-
-    @Builder.Default
-    private TemplateContainerParams containerParams = TemplateContainerParams.builder().build();
+    private final Map<String, String> environmentVariables;
+    private final LambdaIsolationMode containerMode;
+    private final TemplateContainerParams containerParams;
+
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private int hash;
+
+    /**
+     * Build template parameters. Every argument but the three required ones takes its default when null.
+     *
+     * @param lambdaArn                qualified ARN of the Lambda function
+     * @param lambdaRuntime            runtime of the function
+     * @param lambdaHandler            handler of the function
+     * @param eventSources             topics the function subscribes to
+     * @param timeoutInSeconds         timeout of one invocation
+     * @param pinned                   whether the function is long-lived
+     * @param statusTimeoutInSeconds   interval at which the function reports its status
+     * @param maxQueueSize             size of the message queue
+     * @param maxInstancesCount        number of instances that can run at once
+     * @param maxIdleTimeInSeconds     idle time before an instance is stopped
+     * @param inputPayloadEncodingType encoding of the invocation payload
+     * @param platforms                platforms the component runs on
+     * @param componentDependencies    dependencies besides the ones every Lambda component has
+     * @param execArgs                 arguments passed to the function
+     * @param environmentVariables     environment variables of the function
+     * @param containerMode            isolation mode
+     * @param containerParams          container settings, used in container mode
+     */
+    @Builder
+    @JsonCreator
+    @SuppressWarnings("PMD.ExcessiveParameterList") // One per property, for the builder and for Jackson
+    public LambdaTemplateParams(@JsonProperty("lambdaArn") @NonNull String lambdaArn,
+                                @JsonProperty("lambdaRuntime") @NonNull LambdaRuntime lambdaRuntime,
+                                @JsonProperty("lambdaHandler") @NonNull String lambdaHandler,
+                                @JsonProperty("pubsubTopics") List<LambdaEventSource> eventSources,
+                                @JsonProperty("timeoutInSeconds") Integer timeoutInSeconds,
+                                @JsonProperty("pinned") Boolean pinned,
+                                @JsonProperty("statusTimeoutInSeconds") Integer statusTimeoutInSeconds,
+                                @JsonProperty("maxQueueSize") Integer maxQueueSize,
+                                @JsonProperty("maxInstancesCount") Integer maxInstancesCount,
+                                @JsonProperty("maxIdleTimeInSeconds") Integer maxIdleTimeInSeconds,
+                                @JsonProperty("inputPayloadEncodingType")
+                                        LambdaInputPayloadEncodingType inputPayloadEncodingType,
+                                @JsonProperty("platforms") List<Platform> platforms,
+                                @JsonProperty("componentDependencies")
+                                        Map<String, DependencyProperties> componentDependencies,
+                                @JsonProperty("lambdaArgs") List<String> execArgs,
+                                @JsonProperty("lambdaEnvironmentVariables") Map<String, String> environmentVariables,
+                                @JsonProperty("containerMode") LambdaIsolationMode containerMode,
+                                @JsonProperty("containerParams") TemplateContainerParams containerParams) {
+        this.lambdaArn = lambdaArn;
+        this.lambdaRuntime = lambdaRuntime;
+        this.lambdaHandler = lambdaHandler;
+        this.eventSources = ImmutableCollections.copyOf(eventSources, Collections.emptyList());
+        this.timeoutInSeconds = timeoutInSeconds == null ? LAMBDA_RECIPE_DEFAULT_TIMEOUT_IN_SEC : timeoutInSeconds;
+        this.pinned = pinned == null ? LAMBDA_RECIPE_DEFAULT_PINNED : pinned;
+        this.statusTimeoutInSeconds = statusTimeoutInSeconds == null ? LAMBDA_RECIPE_DEFAULT_STATUS_TIMEOUT_IN_SEC
+                : statusTimeoutInSeconds;
+        this.maxQueueSize = maxQueueSize == null ? LAMBDA_RECIPE_DEFAULT_MAX_QUEUE_SIZE : maxQueueSize;
+        this.maxInstancesCount = maxInstancesCount == null ? LAMBDA_RECIPE_DEFAULT_MAX_INSTANCE_COUNT
+                : maxInstancesCount;
+        this.maxIdleTimeInSeconds = maxIdleTimeInSeconds == null ? LAMBDA_RECIPE_DEFAULT_MAX_IDLE_TIME_IN_SEC
+                : maxIdleTimeInSeconds;
+        this.inputPayloadEncodingType = inputPayloadEncodingType == null ? DEFAULT_LAMBDA_INPUT_PAYLOAD_ENCODING_TYPE
+                : inputPayloadEncodingType;
+        this.platforms = ImmutableCollections.copyOf(platforms, DEFAULT_PLATFORMS);
+        this.componentDependencies = ImmutableCollections.copyOf(componentDependencies, Collections.emptyMap());
+        this.execArgs = ImmutableCollections.copyOf(execArgs, Collections.emptyList());
+        this.environmentVariables = ImmutableCollections.copyOf(environmentVariables, Collections.emptyMap());
+        this.containerMode = containerMode == null ? DEFAULT_LAMBDA_ISOLATION_MODE : containerMode;
+        this.containerParams = containerParams == null ? TemplateContainerParams.DEFAULTS : containerParams;
+    }
+
+    /**
+     * Completed by Lombok. Only the platforms setter is written out.
+     */
+    public static class LambdaTemplateParamsBuilder {
+        /**
+         * Platforms of the component. Unlike the other properties, an explicit null does not take the default but
+         * means no platforms, which the transformer rejects.
+         *
+         * @param platforms platforms, or null for none
+         * @return this builder
+         */
+        public LambdaTemplateParamsBuilder platforms(List<Platform> platforms) {
+            this.platforms = platforms == null ? Collections.emptyList() : platforms;
+            return this;
+        }
+    }
+
+    public boolean isPinned() {
+        return pinned;
+    }
+
+    /**
+     * Whether the function is long-lived, under the getter name of the mutable model.
+     *
+     * @return same as {@link #isPinned()}
+     * @deprecated use {@link #isPinned()}
+     */
+    @Deprecated
+    public Boolean getPinned() {
+        return pinned;
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LambdaTemplateParams)) {
+            return false;
+        }
+        LambdaTemplateParams other = (LambdaTemplateParams) o;
+        return hashCode() == other.hashCode()
+                && timeoutInSeconds == other.timeoutInSeconds
+                && pinned == other.pinned
+                && statusTimeoutInSeconds == other.statusTimeoutInSeconds
+                && maxQueueSize == other.maxQueueSize
+                && maxInstancesCount == other.maxInstancesCount
+                && maxIdleTimeInSeconds == other.maxIdleTimeInSeconds
+                && lambdaRuntime == other.lambdaRuntime
+                && inputPayloadEncodingType == other.inputPayloadEncodingType
+                && containerMode == other.containerMode
+                && lambdaArn.equals(other.lambdaArn)
+                && lambdaHandler.equals(other.lambdaHandler)
+                && eventSources.equals(other.eventSources)
+                && platforms.equals(other.platforms)
+                && componentDependencies.equals(other.componentDependencies)
+                && execArgs.equals(other.execArgs)
+                && environmentVariables.equals(other.environmentVariables)
+                && containerParams.equals(other.containerParams);
+    }
+
+    @Override
+    public int hashCode() {
+        // Computed at most once per thread, and always to the same value
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(lambdaArn, lambdaRuntime, lambdaHandler, eventSources, timeoutInSeconds, pinned,
+                    statusTimeoutInSeconds, maxQueueSize, maxInstancesCount, maxIdleTimeInSeconds,
+                    inputPayloadEncodingType, platforms, componentDependencies, execArgs, environmentVariables,
+                    containerMode, containerParams);
+            hash = h;
+        }
+        return h;
+    }
 }
@@ -5,25 +5,92 @@
 
 package com.aws.greengrass.lambdatransformer.common.models;
 
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonCreator;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import lombok.AccessLevel;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
+
+import java.util.Objects;
 
 import static com.aws.greengrass.lambdatransformer.common.Constants.DEFAULT_ADD_GROUP_OWNER;
 import static com.aws.greengrass.lambdatransformer.common.Constants.DEFAULT_LAMBDA_FILE_SYSTEM_PERMISSION;
 
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class LambdaVolumeMount {
-    private String source;
-    private String destination;
+/**
+ * Immutable, so instances can be shared between threads and used as keys. Null permission and addGroupOwner take
+ * their defaults.
+ */
+@Getter
+@ToString
+public final class LambdaVolumeMount {
+    private final String source;
+    private final String destination;
+    private final LambdaFilesystemPermission permission;
+    @Getter(AccessLevel.NONE)
+    private final boolean addGroupOwner;
+
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private int hash;
+
+    /**
+     * Build a volume mount.
+     *
+     * @param source        path on the device
+     * @param destination   path in the container
+     * @param permission    access to the volume, null for the default
+     * @param addGroupOwner whether to add the Lambda's group as owner, null for the default
+     */
+    @Builder
+    @JsonCreator
+    public LambdaVolumeMount(@JsonProperty("source") String source,
+                             @JsonProperty("destination") String destination,
+                             @JsonProperty("permission") LambdaFilesystemPermission permission,
+                             @JsonProperty("addGroupOwner") Boolean addGroupOwner) {
+        this.source = source;
+        this.destination = destination;
+        this.permission = permission == null ? DEFAULT_LAMBDA_FILE_SYSTEM_PERMISSION : permission;
+        this.addGroupOwner = addGroupOwner == null ? DEFAULT_ADD_GROUP_OWNER : addGroupOwner;
+    }
+
+    public boolean isAddGroupOwner() {
+        return addGroupOwner;
+    }
+
+    /**
+     * Whether to add the Lambda's group as owner, under the getter name of the mutable model.
+     *
+     * @return same as {@link #isAddGroupOwner()}
+     * @deprecated use {@link #isAddGroupOwner()}
+     */
+    @Deprecated
+    public Boolean getAddGroupOwner() {
+        return addGroupOwner;
+    }
 
-    @Builder.Default
-    private LambdaFilesystemPermission permission = DEFAULT_LAMBDA_FILE_SYSTEM_PERMISSION;
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof LambdaVolumeMount)) {
+            return false;
+        }
+        LambdaVolumeMount other = (LambdaVolumeMount) o;
+        return hashCode() == other.hashCode() && addGroupOwner == other.addGroupOwner
+                && permission == other.permission && Objects.equals(source, other.source)
+                && Objects.equals(destination, other.destination);
+    }
 
-    @Builder.Default
-    private Boolean addGroupOwner = DEFAULT_ADD_GROUP_OWNER;
+    @Override
+    public int hashCode() {
+        // Computed at most once per thread, and always to the same value
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(source, destination, permission, addGroupOwner);
+            hash = h;
+        }
+        return h;
+    }
 }
@@ -5,33 +5,118 @@
 
 package com.aws.greengrass.lambdatransformer.common.models;
 
+import com.fasterxml.jackson.annotation.JsonCreator;
 import com.fasterxml.jackson.annotation.JsonProperty;
-import lombok.AllArgsConstructor;
+import com.fasterxml.jackson.annotation.JsonPropertyOrder;
+import lombok.AccessLevel;
 import lombok.Builder;
-import lombok.Data;
-import lombok.NoArgsConstructor;
+import lombok.Getter;
+import lombok.ToString;
 
 import java.util.Collections;
 import java.util.List;
+import java.util.Objects;
 
 import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_RECIPE_DEFAULT_LAMBDA_MEMORY_IN_KILO_BYTES;
 
-@Data
-@Builder
-@NoArgsConstructor
-@AllArgsConstructor
-public class TemplateContainerParams {
+/**
+ * Immutable, so instances can be shared between threads and used as keys. Null properties take their defaults, and
+ * the lists are immutable copies. Parameters that are all defaults are always {@link #DEFAULTS}.
+ */
+// Creator properties would otherwise come first; keep renamed memorySize last, as before
+@JsonPropertyOrder({"mountROSysfs", "volumes", "devices", "memorySize"})
+@Getter
+@ToString
+public final class TemplateContainerParams {
+    /**
+     * Container parameters that are all defaults. Built and deserialized as this one instance.
+     */
+    public static final TemplateContainerParams DEFAULTS = new TemplateContainerParams(
+            LAMBDA_RECIPE_DEFAULT_LAMBDA_MEMORY_IN_KILO_BYTES, false, Collections.emptyList(),
+            Collections.emptyList());
 
     @JsonProperty("memorySize")
-    @Builder.Default
-    private Integer memorySizeInKB = LAMBDA_RECIPE_DEFAULT_LAMBDA_MEMORY_IN_KILO_BYTES;
+    private final int memorySizeInKB;
+    @Getter(AccessLevel.NONE)
+    private final boolean mountROSysfs;
+    private final List<LambdaVolumeMount> volumes;
+    private final List<LambdaDeviceMount> devices;
+
+    @Getter(AccessLevel.NONE)
+    @ToString.Exclude
+    private int hash;
+
+    private TemplateContainerParams(int memorySizeInKB, boolean mountROSysfs, List<LambdaVolumeMount> volumes,
+                                    List<LambdaDeviceMount> devices) {
+        this.memorySizeInKB = memorySizeInKB;
+        this.mountROSysfs = mountROSysfs;
+        this.volumes = volumes;
+        this.devices = devices;
+    }
+
+    /**
+     * Container parameters, or {@link #DEFAULTS} if they are all defaults.
+     *
+     * @param memorySizeInKB memory size, or null for the default
+     * @param mountROSysfs   whether to mount /sys read-only, or null for the default
+     * @param volumes        volume mounts, or null for none
+     * @param devices        device mounts, or null for none
+     * @return container parameters
+     */
+    @Builder
+    @JsonCreator
+    public static TemplateContainerParams of(@JsonProperty("memorySize") Integer memorySizeInKB,
+                                             @JsonProperty("mountROSysfs") Boolean mountROSysfs,
+                                             @JsonProperty("volumes") List<LambdaVolumeMount> volumes,
+                                             @JsonProperty("devices") List<LambdaDeviceMount> devices) {
+        int memorySize = memorySizeInKB == null ? DEFAULTS.memorySizeInKB : memorySizeInKB;
+        boolean mountReadOnly = mountROSysfs == null ? DEFAULTS.mountROSysfs : mountROSysfs;
+        List<LambdaVolumeMount> volumeCopies = ImmutableCollections.copyOf(volumes, DEFAULTS.volumes);
+        List<LambdaDeviceMount> deviceCopies = ImmutableCollections.copyOf(devices, DEFAULTS.devices);
+        if (memorySize == DEFAULTS.memorySizeInKB && mountReadOnly == DEFAULTS.mountROSysfs && volumeCopies.isEmpty()
+                && deviceCopies.isEmpty()) {
+            return DEFAULTS;
+        }
+        return new TemplateContainerParams(memorySize, mountReadOnly, volumeCopies, deviceCopies);
+    }
+
+    public boolean isMountROSysfs() {
+        return mountROSysfs;
+    }
 
-    @Builder.Default
-    private Boolean mountROSysfs = false;
+    /**
+     * Whether to mount /sys read-only, under the getter name of the mutable model.
+     *
+     * @return same as {@link #isMountROSysfs()}
+     * @deprecated use {@link #isMountROSysfs()}
+     */
+    @Deprecated
+    public Boolean getMountROSysfs() {
+        return mountROSysfs;
+    }
 
-    @Builder.Default
-    private List<LambdaVolumeMount> volumes = Collections.emptyList();
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof TemplateContainerParams)) {
+            return false;
+        }
+        TemplateContainerParams other = (TemplateContainerParams) o;
+        return hashCode() == other.hashCode() && memorySizeInKB == other.memorySizeInKB
+                && mountROSysfs == other.mountROSysfs && volumes.equals(other.volumes)
+                && devices.equals(other.devices);
+    }
 
-    @Builder.Default
-    private List<LambdaDeviceMount> devices = Collections.emptyList();
+    @Override
+    public int hashCode() {
+        // Computed at most once per thread, and always to the same value
+        int h = hash;
+        if (h == 0) {
+            h = Objects.hash(memorySizeInKB, mountROSysfs, volumes, devices);
+            hash = h;
+        }
+        return h;
+    }
 }
@@ -0,0 +1,29 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.common.utils;
+
+import java.io.OutputStream;
+
+/**
+ * Discards everything written to it and only counts the bytes, to measure serialized sizes without buffering.
+ */
+public final class CountingOutputStream extends OutputStream {
+    private long count;
+
+    @Override
+    public void write(int b) {
+        count++;
+    }
+
+    @Override
+    public void write(byte[] b, int off, int len) {
+        count += len;
+    }
+
+    public long getCount() {
+        return count;
+    }
+}
@@ -0,0 +1,158 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.common.utils;
+
+import com.aws.greengrass.lambdatransformer.common.models.LambdaDeviceMount;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaEventSource;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaFilesystemPermission;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaInputPayloadEncodingType;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaIsolationMode;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaVolumeMount;
+import com.aws.greengrass.lambdatransformer.common.models.TemplateContainerParams;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.JsonNodeFactory;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Writes the {@code defaultConfiguration} of a Lambda component straight from its template parameters. The tree is
+ * the one that converting a {@code DefaultConfiguration} with a plain {@code ObjectMapper} would produce, with the
+ * same field names, field order and nulls, but without building the intermediate object graph and without a
+ * reflective serialize/deserialize round trip.
+ */
+public final class DefaultConfigurationWriter {
+    private static final JsonNodeFactory NODES = JsonNodeFactory.instance;
+
+    // Enum constants are written once through Jackson, so that their @JsonProperty names stay the only source of truth
+    private static final Map<LambdaIsolationMode, JsonNode> CONTAINER_MODES = enumNodes(LambdaIsolationMode.class);
+    private static final Map<LambdaInputPayloadEncodingType, JsonNode> ENCODING_TYPES =
+            enumNodes(LambdaInputPayloadEncodingType.class);
+    private static final Map<LambdaFilesystemPermission, JsonNode> PERMISSIONS =
+            enumNodes(LambdaFilesystemPermission.class);
+    private static final Map<LambdaEventSource.LambdaEventSourceType, JsonNode> EVENT_SOURCE_TYPES =
+            enumNodes(LambdaEventSource.LambdaEventSourceType.class);
+
+    private DefaultConfigurationWriter() {
+    }
+
+    /**
+     * Write the default configuration of one component.
+     *
+     * @param lambdaParameters bound template parameters
+     * @return a new {@code defaultConfiguration} tree
+     */
+    public static ObjectNode write(LambdaTemplateParams lambdaParameters) {
+        TemplateContainerParams containerParams = lambdaParameters.getContainerParams();
+        ObjectNode configuration = NODES.objectNode();
+        configuration.putObject("lambdaExecutionParameters")
+                .set("EnvironmentVariables", writeEnvironmentVariables(lambdaParameters.getEnvironmentVariables()));
+
+        // Jackson moves renamed properties to the end, which is why memorySize comes last
+        ObjectNode containerParamsNode = configuration.putObject("containerParams");
+        containerParamsNode.put("mountROSysfs", containerParams.isMountROSysfs());
+        writeVolumes(containerParamsNode.putObject("volumes"), containerParams.getVolumes());
+        writeDevices(containerParamsNode.putObject("devices"), containerParams.getDevices());
+        containerParamsNode.put("memorySize", containerParams.getMemorySizeInKB());
+
+        configuration.set("containerMode", enumNode(CONTAINER_MODES, lambdaParameters.getContainerMode()));
+        configuration.put("timeoutInSeconds", lambdaParameters.getTimeoutInSeconds());
+        configuration.put("maxInstancesCount", lambdaParameters.getMaxInstancesCount());
+        configuration.set("inputPayloadEncodingType",
+                enumNode(ENCODING_TYPES, lambdaParameters.getInputPayloadEncodingType()));
+        configuration.put("maxQueueSize", lambdaParameters.getMaxQueueSize());
+        configuration.put("pinned", lambdaParameters.isPinned());
+        configuration.put("maxIdleTimeInSeconds", lambdaParameters.getMaxIdleTimeInSeconds());
+        configuration.put("statusTimeoutInSeconds", lambdaParameters.getStatusTimeoutInSeconds());
+        writePubSubTopics(configuration.putObject("pubsubTopics"), lambdaParameters.getEventSources());
+        return configuration;
+    }
+
+    private static JsonNode writeEnvironmentVariables(Map<String, String> environmentVariables) {
+        if (environmentVariables == null) {
+            return NODES.nullNode();
+        }
+        ObjectNode node = NODES.objectNode();
+        // Sorted, as in every other map of the expanded recipe
+        new TreeMap<>(environmentVariables).forEach(node::put);
+        return node;
+    }
+
+    // Like the maps of the object graph, the list elements are keyed by their position, "0" to "n-1"
+
+    private static void writeVolumes(ObjectNode node, List<LambdaVolumeMount> volumes) {
+        if (volumes == null) {
+            return;
+        }
+        int index = 0;
+        for (LambdaVolumeMount volume : volumes) {
+            String key = Integer.toString(index++);
+            if (volume == null) {
+                node.putNull(key);
+                continue;
+            }
+            ObjectNode volumeNode = node.putObject(key);
+            volumeNode.put("source", volume.getSource());
+            volumeNode.put("destination", volume.getDestination());
+            volumeNode.set("permission", enumNode(PERMISSIONS, volume.getPermission()));
+            volumeNode.put("addGroupOwner", volume.isAddGroupOwner());
+        }
+    }
+
+    private static void writeDevices(ObjectNode node, List<LambdaDeviceMount> devices) {
+        if (devices == null) {
+            return;
+        }
+        int index = 0;
+        for (LambdaDeviceMount device : devices) {
+            String key = Integer.toString(index++);
+            if (device == null) {
+                node.putNull(key);
+                continue;
+            }
+            ObjectNode deviceNode = node.putObject(key);
+            deviceNode.put("path", device.getPath());
+            deviceNode.set("permission", enumNode(PERMISSIONS, device.getPermission()));
+            deviceNode.put("addGroupOwner", device.isAddGroupOwner());
+        }
+    }
+
+    private static void writePubSubTopics(ObjectNode node, List<LambdaEventSource> eventSources) {
+        if (eventSources == null) {
+            return;
+        }
+        int index = 0;
+        for (LambdaEventSource eventSource : eventSources) {
+            String key = Integer.toString(index++);
+            if (eventSource == null) {
+                node.putNull(key);
+                continue;
+            }
+            ObjectNode eventSourceNode = node.putObject(key);
+            eventSourceNode.put("topic", eventSource.getTopic());
+            eventSourceNode.set("type", enumNode(EVENT_SOURCE_TYPES, eventSource.getType()));
+        }
+    }
+
+    private static <E extends Enum<E>> JsonNode enumNode(Map<E, JsonNode> nodes, E value) {
+        return value == null ? NODES.nullNode() : nodes.get(value);
+    }
+
+    private static <E extends Enum<E>> Map<E, JsonNode> enumNodes(Class<E> enumClass) {
+        ObjectMapper mapper = TransformerSerializers.jsonMapper();
+        Map<E, JsonNode> nodes = new EnumMap<>(enumClass);
+        for (E value : enumClass.getEnumConstants()) {
+            nodes.put(value, mapper.valueToTree(value));
+        }
+        return Collections.unmodifiableMap(nodes);
+    }
+}
@@ -0,0 +1,95 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.common.utils;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+import com.amazon.aws.iot.greengrass.component.common.SerializerFactory;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+
+/**
+ * SHA-256 digests, and the content digest of expanded recipes. Expansion is deterministic: equal parameters always
+ * build the same maps, with their entries in the same order, so they always serialize to the same bytes. Most maps
+ * are sorted by key, but the volumes, devices and pub/sub topics of the default configuration are keyed "0" to "n-1"
+ * and keep the order of their lists, as do the lists themselves. Comparing the content digests of two expansions
+ * therefore tells whether anything changed, without parsing them.
+ */
+public final class Digests {
+    private static final String ALGORITHM = "SHA-256";
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    // Sorts the entries of Java maps, but not the fields of JSON trees such as the default configuration, which keep
+    // the order they were built in. Only expansions are guaranteed the same digest for equal content.
+    private static final ObjectWriter CANONICAL_RECIPE_WRITER = SerializerFactory.getRecipeSerializerJson()
+            .writer(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS);
+
+    private Digests() {
+    }
+
+    /**
+     * A new SHA-256 message digest.
+     *
+     * @return message digest
+     * @throws IllegalStateException if the platform does not support SHA-256, which every Java platform must
+     */
+    public static MessageDigest sha256() {
+        try {
+            return MessageDigest.getInstance(ALGORITHM);
+        } catch (NoSuchAlgorithmException e) {
+            // Every Java platform is required to support SHA-256
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Content digest of a recipe: the SHA-256 of its canonical JSON, in lowercase hex. Expansions of equal parameters
+     * have equal digests; recipes built otherwise may differ only in the field order of a JSON tree and still not.
+     *
+     * @param recipe expanded recipe
+     * @return 64 hex digits
+     * @throws IOException if the recipe cannot be serialized
+     */
+    public static String ofRecipe(ComponentRecipe recipe) throws IOException {
+        MessageDigest digest = sha256();
+        // The digest is all that is kept, so the serialized bytes are only counted
+        try (DigestOutputStream out = new DigestOutputStream(new CountingOutputStream(), digest)) {
+            writeCanonical(recipe, out);
+        }
+        return hex(digest.digest());
+    }
+
+    /**
+     * Serialize a recipe as the canonical JSON its content digest is taken over, for callers that need both the
+     * digest and the serialized bytes or their size.
+     *
+     * @param recipe expanded recipe
+     * @param out    stream to write to, which is closed afterwards
+     * @throws IOException if the recipe cannot be serialized
+     */
+    public static void writeCanonical(ComponentRecipe recipe, OutputStream out) throws IOException {
+        CANONICAL_RECIPE_WRITER.writeValue(out, recipe);
+    }
+
+    /**
+     * Bytes in lowercase hex.
+     *
+     * @param bytes bytes, such as a digest
+     * @return two hex digits per byte
+     */
+    public static String hex(byte[] bytes) {
+        char[] hex = new char[bytes.length * 2];
+        for (int i = 0; i < bytes.length; i++) {
+            hex[2 * i] = HEX_DIGITS[(bytes[i] >> 4) & 0xf];
+            hex[2 * i + 1] = HEX_DIGITS[bytes[i] & 0xf];
+        }
+        return new String(hex);
+    }
+}
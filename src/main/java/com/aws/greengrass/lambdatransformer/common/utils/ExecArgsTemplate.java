@@ -0,0 +1,53 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.common.utils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_EXEC_ARGS_HANDLER;
+
+/**
+ * The command line that starts the Lambda runtime for one {@code LambdaRuntime}. The runtime-specific prefix is
+ * fixed; the handler argument and any extra arguments are filled in per component. Immutable and thread safe.
+ */
+public final class ExecArgsTemplate {
+    private final String[] prefix;
+
+    ExecArgsTemplate(String... prefix) {
+        this.prefix = prefix.clone();
+    }
+
+    /**
+     * The arguments before the handler.
+     *
+     * @return unmodifiable view of the prefix
+     */
+    public List<String> getPrefix() {
+        return Collections.unmodifiableList(Arrays.asList(prefix));
+    }
+
+    /**
+     * Build the exec args of one component, sized exactly and filled in a single pass.
+     *
+     * @param handlerName Lambda handler
+     * @param extraArgs   arguments to append after the handler, may be null
+     * @return prefix, then {@code --handler=<handlerName>}, then the extra args
+     */
+    public List<String> build(String handlerName, List<String> extraArgs) {
+        int extraCount = extraArgs == null ? 0 : extraArgs.size();
+        String[] execArgs = Arrays.copyOf(prefix, prefix.length + 1 + extraCount);
+        int next = prefix.length;
+        execArgs[next++] = LAMBDA_EXEC_ARGS_HANDLER + handlerName;
+        if (extraCount > 0) {
+            for (String extraArg : extraArgs) {
+                execArgs[next++] = extraArg;
+            }
+        }
+        return Arrays.asList(execArgs);
+    }
+}
@@ -6,82 +6,123 @@
 package com.aws.greengrass.lambdatransformer.common.utils;
 
 import com.amazon.aws.iot.greengrass.component.common.TemplateParameter;
-import com.aws.greengrass.lambdatransformer.common.models.LambdaRuntime;
+import com.amazon.aws.iot.greengrass.component.common.TemplateParameterType;
 import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+import com.aws.greengrass.lambdatransformer.common.models.TemplateContainerParams;
+import com.fasterxml.jackson.annotation.JsonInclude;
 import com.fasterxml.jackson.core.JsonProcessingException;
 import com.fasterxml.jackson.databind.ObjectMapper;
-import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
 
-import java.util.HashMap;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+
+import static com.aws.greengrass.lambdatransformer.common.Constants.DEFAULT_LAMBDA_INPUT_PAYLOAD_ENCODING_TYPE;
+import static com.aws.greengrass.lambdatransformer.common.Constants.DEFAULT_LAMBDA_ISOLATION_MODE;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_RECIPE_DEFAULT_MAX_IDLE_TIME_IN_SEC;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_RECIPE_DEFAULT_MAX_INSTANCE_COUNT;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_RECIPE_DEFAULT_MAX_QUEUE_SIZE;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_RECIPE_DEFAULT_PINNED;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_RECIPE_DEFAULT_STATUS_TIMEOUT_IN_SEC;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_RECIPE_DEFAULT_TIMEOUT_IN_SEC;
 
 /**
- * Lambda default config values can (and probably will) change in the future. This utility script takes the current
- * default values in this repo and generates the full template schema by populating the default-less schema with
- * default values.
+ * Lambda default config values can (and probably will) change in the future. This utility generates the full
+ * template schema from the current default values of {@link LambdaTemplateParams}, so that the schema has a single
+ * source. The build runs {@link #main(String[])} to ship the schema as a compact resource, see
+ * {@link LambdaTemplateSchema}, and the template recipes are checked against it by the tests.
  */
 public final class GenerateTemplateSchemaFromDefaults {
-    // template schema plaintext
-    @SuppressWarnings("PMD.AvoidDuplicateLiterals")
-    public static final String LAMBDA_TEMPLATE_SCHEMA_LESS_DEFAULTS =
-            "lambdaArn:\n" + "  type: string\n" + "  required: true\n" + "lambdaRuntime:\n"
-                    + "  type: string\n" + "  required: true\n"
-                    + "lambdaHandler:\n" + "  type: string\n" + "  required: true\n"
-                    + "pubsubTopics:\n" + "  type: array\n"
-                    + "  required: false\n" + "timeoutInSeconds:\n" + "  type: number\n"
-                    + "  required: false\n" + "pinned:\n" + "  type: boolean\n"
-                    + "  required: false\n" + "statusTimeoutInSeconds:\n"
-                    + "  type: number\n" + "  required: false\n" + "maxQueueSize:\n"
-                    + "  type: number\n" + "  required: false\n" + "maxInstancesCount:\n"
-                    + "  type: number\n" + "  required: false\n" + "maxIdleTimeInSeconds:\n"
-                    + "  type: number\n" + "  required: false\n"
-                    + "inputPayloadEncodingType:\n" + "  type: string\n" + "  required: false\n"
-                    + "platforms:\n" + "  type: array\n" + "  required: false\n"
-                    + "componentDependencies:\n" + "  type: object\n"
-                    + "  required: false\n" + "lambdaArgs:\n" + "  type: array\n"
-                    + "  required: false\n" + "lambdaEnvironmentVariables:\n"
-                    + "  type: object\n" + "  required: false\n" + "containerMode:\n"
-                    + "  type: string\n" + "  required: false\n"
-                    + "containerParams:\n" + "  type: object\n" + "  required: false\n";
-
-    private static final ObjectMapper mapper = new ObjectMapper(new YAMLFactory());
+    // Defaults are written the way the recipe serializer writes them, without null properties
+    private static final ObjectMapper DEFAULTS_MAPPER =
+            new ObjectMapper().setSerializationInclusion(JsonInclude.Include.NON_NULL);
 
     // utility class
     private GenerateTemplateSchemaFromDefaults() {
     }
 
+    /**
+     * Write the template schema as compact JSON, which the recipe serializer reads as YAML.
+     *
+     * @param args the path of the schema file to write
+     * @throws IOException if the file cannot be written
+     * @throws IllegalArgumentException if no path, or more than one, is given
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 1) {
+            throw new IllegalArgumentException("Expected the path of the schema file to write");
+        }
+        Path schemaFile = Paths.get(args[0]);
+        Path directory = schemaFile.toAbsolutePath().getParent();
+        if (directory != null) {
+            Files.createDirectories(directory);
+        }
+        Files.write(schemaFile, generateTemplateSchemaJson());
+    }
+
     /**
      * Utility function to generate the default template schema string. Useful for generating recipe files.
      * @return ComponentRecipe::TemplateParameterSchema field as stringified YAML.
      * @throws JsonProcessingException if something goes wrong with de/serialization.
      */
     public static String generateTemplateSchemaFromDefaults() throws JsonProcessingException {
-        Parameters schema = mapper.readValue(LAMBDA_TEMPLATE_SCHEMA_LESS_DEFAULTS, Parameters.class);
-        LambdaTemplateParams params = LambdaTemplateParams.builder()
-                .lambdaArn("null")
-                .lambdaRuntime(LambdaRuntime.Java8)
-                .lambdaHandler("null")
-                .build();
+        return TransformerSerializers.yamlMapper().writeValueAsString(generateTemplateSchema());
+    }
 
-        // populate manually :(
-        schema.get("pubsubTopics").setDefaultValue(params.getEventSources());
-        schema.get("timeoutInSeconds").setDefaultValue(params.getTimeoutInSeconds());
-        schema.get("pinned").setDefaultValue(params.getPinned());
-        schema.get("statusTimeoutInSeconds").setDefaultValue(params.getStatusTimeoutInSeconds());
-        schema.get("maxQueueSize").setDefaultValue(params.getMaxQueueSize());
-        schema.get("maxInstancesCount").setDefaultValue(params.getMaxInstancesCount());
-        schema.get("maxIdleTimeInSeconds").setDefaultValue(params.getMaxIdleTimeInSeconds());
-        schema.get("inputPayloadEncodingType").setDefaultValue(params.getInputPayloadEncodingType());
-        schema.get("platforms").setDefaultValue(params.getPlatforms());
-        schema.get("componentDependencies").setDefaultValue(params.getComponentDependencies());
-        schema.get("lambdaArgs").setDefaultValue(params.getExecArgs());
-        schema.get("lambdaEnvironmentVariables").setDefaultValue(params.getEnvironmentVariables());
-        schema.get("containerMode").setDefaultValue(params.getContainerMode());
-        schema.get("containerParams").setDefaultValue(params.getContainerParams());
+    /**
+     * Generate the template schema as compact JSON.
+     *
+     * @return UTF-8 encoded JSON
+     * @throws JsonProcessingException if something goes wrong with serialization.
+     */
+    public static byte[] generateTemplateSchemaJson() throws JsonProcessingException {
+        return DEFAULTS_MAPPER.writeValueAsBytes(generateTemplateSchema());
+    }
 
-        return mapper.writeValueAsString(schema);
+    /**
+     * Generate the template schema, in the declaration order of {@link LambdaTemplateParams}, from the same default
+     * constants and shared instances that the models use. Default values are plain maps, lists and scalars, the same
+     * as those of a schema read from a recipe.
+     *
+     * @return a new schema
+     */
+    public static Parameters generateTemplateSchema() {
+        Parameters schema = new Parameters();
+        schema.required("lambdaArn", TemplateParameterType.STRING);
+        schema.required("lambdaRuntime", TemplateParameterType.STRING);
+        schema.required("lambdaHandler", TemplateParameterType.STRING);
+        schema.optional("pubsubTopics", TemplateParameterType.ARRAY, Collections.emptyList());
+        schema.optional("timeoutInSeconds", TemplateParameterType.NUMBER, LAMBDA_RECIPE_DEFAULT_TIMEOUT_IN_SEC);
+        schema.optional("pinned", TemplateParameterType.BOOLEAN, LAMBDA_RECIPE_DEFAULT_PINNED);
+        schema.optional("statusTimeoutInSeconds", TemplateParameterType.NUMBER,
+                LAMBDA_RECIPE_DEFAULT_STATUS_TIMEOUT_IN_SEC);
+        schema.optional("maxQueueSize", TemplateParameterType.NUMBER, LAMBDA_RECIPE_DEFAULT_MAX_QUEUE_SIZE);
+        schema.optional("maxInstancesCount", TemplateParameterType.NUMBER, LAMBDA_RECIPE_DEFAULT_MAX_INSTANCE_COUNT);
+        schema.optional("maxIdleTimeInSeconds", TemplateParameterType.NUMBER,
+                LAMBDA_RECIPE_DEFAULT_MAX_IDLE_TIME_IN_SEC);
+        schema.optional("inputPayloadEncodingType", TemplateParameterType.STRING,
+                DEFAULT_LAMBDA_INPUT_PAYLOAD_ENCODING_TYPE);
+        schema.optional("platforms", TemplateParameterType.ARRAY, LambdaTemplateParams.DEFAULT_PLATFORMS);
+        schema.optional("componentDependencies", TemplateParameterType.OBJECT, Collections.emptyMap());
+        schema.optional("lambdaArgs", TemplateParameterType.ARRAY, Collections.emptyList());
+        schema.optional("lambdaEnvironmentVariables", TemplateParameterType.OBJECT, Collections.emptyMap());
+        schema.optional("containerMode", TemplateParameterType.STRING, DEFAULT_LAMBDA_ISOLATION_MODE);
+        schema.optional("containerParams", TemplateParameterType.OBJECT, TemplateContainerParams.DEFAULTS);
+        return schema;
     }
 
-    public static class Parameters extends HashMap<String, TemplateParameter> {
+    public static class Parameters extends LinkedHashMap<String, TemplateParameter> {
         private static final long serialVersionUID = 3136343651854671477L;
+
+        private void required(String name, TemplateParameterType type) {
+            put(name, new TemplateParameter(type, true, null));
+        }
+
+        private void optional(String name, TemplateParameterType type, Object defaultValue) {
+            put(name, new TemplateParameter(type, false, DEFAULTS_MAPPER.convertValue(defaultValue, Object.class)));
+        }
     }
 }
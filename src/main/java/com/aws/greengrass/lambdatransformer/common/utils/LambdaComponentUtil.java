@@ -6,11 +6,10 @@
 package com.aws.greengrass.lambdatransformer.common.utils;
 
 import com.aws.greengrass.lambdatransformer.common.models.LambdaRuntime;
-import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
 
-import java.util.Arrays;
-import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.EnumMap;
 import java.util.List;
 import java.util.Map;
 
@@ -20,22 +19,38 @@ import static com.aws.greengrass.lambdatransformer.common.Constants.NODEJS_LAMBD
 import static com.aws.greengrass.lambdatransformer.common.Constants.PYTHON_LAMBDA_RUNTIME_COMMAND;
 
 
-@SuppressWarnings("PMD.DoubleBraceInitialization")
 public class LambdaComponentUtil {
-    @SuppressFBWarnings("MS_MUTABLE_COLLECTION")
-    public static final Map<LambdaRuntime, List<String>> RUNTIME_TO_EXEC_ARG_MAPPING = new HashMap<LambdaRuntime,
-            List<String>>() {{
-        put(LambdaRuntime.Python27, new LinkedList<>(
-                Arrays.asList("python2.7", "-u", PYTHON_LAMBDA_RUNTIME_COMMAND, LAMBDA_EXEC_ARGS_HANDLER)));
-        put(LambdaRuntime.Python37, new LinkedList<>(Arrays.asList("python3.7", "-u", PYTHON_LAMBDA_RUNTIME_COMMAND,
-                LAMBDA_EXEC_ARGS_HANDLER)));
-        put(LambdaRuntime.Python38, new LinkedList<>(Arrays.asList("python3.8", "-u", PYTHON_LAMBDA_RUNTIME_COMMAND,
-                LAMBDA_EXEC_ARGS_HANDLER)));
-        put(LambdaRuntime.Java8, new LinkedList<>(Arrays.asList("java8", JAVA_LAMBDA_RUNTIME_COMMAND,
-                LAMBDA_EXEC_ARGS_HANDLER)));
-        put(LambdaRuntime.Nodejs10X, new LinkedList<>(Arrays.asList("nodejs10.x", NODEJS_LAMBDA_RUNTIME_COMMAND,
-                LAMBDA_EXEC_ARGS_HANDLER)));
-        put(LambdaRuntime.Nodejs12X, new LinkedList<>(Arrays.asList("nodejs12.x", NODEJS_LAMBDA_RUNTIME_COMMAND,
-                LAMBDA_EXEC_ARGS_HANDLER)));
-    }};
+    public static final Map<LambdaRuntime, ExecArgsTemplate> RUNTIME_TO_EXEC_ARGS_TEMPLATE;
+    public static final Map<LambdaRuntime, LifecycleTemplate> RUNTIME_TO_LIFECYCLE_TEMPLATE;
+
+    /**
+     * Exec args of every runtime with a {@code --handler=} placeholder at the end. Unmodifiable; build the exec args
+     * of a component with {@link #RUNTIME_TO_EXEC_ARGS_TEMPLATE} instead.
+     */
+    public static final Map<LambdaRuntime, List<String>> RUNTIME_TO_EXEC_ARG_MAPPING;
+
+    static {
+        Map<LambdaRuntime, ExecArgsTemplate> templates = new EnumMap<>(LambdaRuntime.class);
+        templates.put(LambdaRuntime.Python27, new ExecArgsTemplate("python2.7", "-u", PYTHON_LAMBDA_RUNTIME_COMMAND));
+        templates.put(LambdaRuntime.Python37, new ExecArgsTemplate("python3.7", "-u", PYTHON_LAMBDA_RUNTIME_COMMAND));
+        templates.put(LambdaRuntime.Python38, new ExecArgsTemplate("python3.8", "-u", PYTHON_LAMBDA_RUNTIME_COMMAND));
+        templates.put(LambdaRuntime.Java8, new ExecArgsTemplate("java8", JAVA_LAMBDA_RUNTIME_COMMAND));
+        templates.put(LambdaRuntime.Nodejs10X, new ExecArgsTemplate("nodejs10.x", NODEJS_LAMBDA_RUNTIME_COMMAND));
+        templates.put(LambdaRuntime.Nodejs12X, new ExecArgsTemplate("nodejs12.x", NODEJS_LAMBDA_RUNTIME_COMMAND));
+        RUNTIME_TO_EXEC_ARGS_TEMPLATE = Collections.unmodifiableMap(templates);
+
+        Map<LambdaRuntime, List<String>> mapping = new EnumMap<>(LambdaRuntime.class);
+        templates.forEach((runtime, template) -> {
+            List<String> execArgs = new ArrayList<>(template.getPrefix());
+            execArgs.add(LAMBDA_EXEC_ARGS_HANDLER);
+            mapping.put(runtime, Collections.unmodifiableList(execArgs));
+        });
+        RUNTIME_TO_EXEC_ARG_MAPPING = Collections.unmodifiableMap(mapping);
+
+        Map<LambdaRuntime, LifecycleTemplate> lifecycles = new EnumMap<>(LambdaRuntime.class);
+        for (LambdaRuntime runtime : LambdaRuntime.values()) {
+            lifecycles.put(runtime, new LifecycleTemplate(runtime));
+        }
+        RUNTIME_TO_LIFECYCLE_TEMPLATE = Collections.unmodifiableMap(lifecycles);
+    }
 }
@@ -0,0 +1,98 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.common.utils;
+
+import com.aws.greengrass.deployment.templating.exceptions.IllegalTemplateParameterException;
+import com.aws.greengrass.deployment.templating.exceptions.TemplateParameterException;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaEventSource;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+
+import java.util.List;
+import java.util.regex.Pattern;
+
+/**
+ * Checks bound template parameters before anything is built from them: platforms, runtime, the formats of the ARN,
+ * handler and topics, and the bounds of the container memory, timeout, queue size and instance count. Every check
+ * runs, so that one failure reports all the problems of the parameters.
+ */
+public final class LambdaTemplateParamsValidator {
+    private static final String TEMPLATE_PARAMETER = "\nTemplate parameter ";
+    private static final String IS_REQUIRED = " is required";
+    // Room for a few problems, the message of valid parameters stays empty
+    private static final int MESSAGE_CAPACITY = 256;
+    // Unqualified, versioned or aliased function ARNs, in any partition and region, such as us-gov-west-1 or
+    // us-isob-east-1
+    private static final Pattern LAMBDA_FUNCTION_ARN = Pattern.compile(
+            "arn:aws[a-zA-Z-]*:lambda:[a-z]{2}(-[a-z]+)+-\\d:\\d{12}:function:[a-zA-Z0-9-_]{1,64}"
+                    + "(:(\\$LATEST|[a-zA-Z0-9-_]{1,128}))?");
+    // Same as the handler of CreateFunction
+    private static final Pattern LAMBDA_HANDLER = Pattern.compile("[^\\s]{1,128}");
+    // Topic filters: + stands for a whole level, and # for the last one
+    private static final Pattern TOPIC = Pattern.compile("([^/+#]*|\\+)(/([^/+#]*|\\+))*(/#)?|#");
+
+    private LambdaTemplateParamsValidator() {
+    }
+
+    /**
+     * Validate bound template parameters.
+     *
+     * @param params bound template parameters
+     * @throws TemplateParameterException with every problem of the parameters, one per line
+     */
+    public static void validate(LambdaTemplateParams params) throws TemplateParameterException {
+        StringBuilder message = new StringBuilder(MESSAGE_CAPACITY);
+        if (params.getPlatforms() == null || params.getPlatforms().isEmpty()) {
+            message.append("\nAt least one platform is expected to be set by caller");
+        }
+        if (!LambdaComponentUtil.RUNTIME_TO_EXEC_ARGS_TEMPLATE.containsKey(params.getLambdaRuntime())) {
+            message.append("\nThe provided runtime for this lambdaFunction : ").append(params.getLambdaRuntime())
+                    .append(" is not supported by Greengrass currently.");
+        }
+        checkFormat(message, "lambdaArn", params.getLambdaArn(), LAMBDA_FUNCTION_ARN);
+        checkFormat(message, "lambdaHandler", params.getLambdaHandler(), LAMBDA_HANDLER);
+        checkTopics(message, params.getEventSources());
+        checkPositive(message, "timeoutInSeconds", params.getTimeoutInSeconds());
+        checkPositive(message, "maxQueueSize", params.getMaxQueueSize());
+        checkPositive(message, "maxInstancesCount", params.getMaxInstancesCount());
+        checkPositive(message, "containerParams.memorySize", params.getContainerParams().getMemorySizeInKB());
+        if (message.length() > 0) {
+            throw new IllegalTemplateParameterException("Provided parameters are not valid:" + message);
+        }
+    }
+
+    private static void checkTopics(StringBuilder message, List<LambdaEventSource> eventSources) {
+        int index = 0;
+        for (LambdaEventSource eventSource : eventSources) {
+            // The path is only built for a problem, so that valid topics cost no more than the match
+            String problem = eventSource == null ? IS_REQUIRED : formatProblem(eventSource.getTopic(), TOPIC);
+            if (problem != null) {
+                message.append(TEMPLATE_PARAMETER).append("pubsubTopics[").append(index).append(']')
+                        .append(eventSource == null ? "" : ".topic").append(problem);
+            }
+            index++;
+        }
+    }
+
+    private static void checkFormat(StringBuilder message, String path, String value, Pattern format) {
+        String problem = formatProblem(value, format);
+        if (problem != null) {
+            message.append(TEMPLATE_PARAMETER).append(path).append(problem);
+        }
+    }
+
+    private static String formatProblem(String value, Pattern format) {
+        if (value == null || value.isEmpty()) {
+            return IS_REQUIRED;
+        }
+        return format.matcher(value).matches() ? null : " is not valid: " + value;
+    }
+
+    private static void checkPositive(StringBuilder message, String path, int value) {
+        if (value < 1) {
+            message.append(TEMPLATE_PARAMETER).append(path).append(" must be at least 1 but is ").append(value);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.common.utils;
+
+import com.amazon.aws.iot.greengrass.component.common.TemplateParameterSchema;
+import com.fasterxml.jackson.core.JsonProcessingException;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+
+/**
+ * The template parameter schema of the Lambda template. The build generates it from the defaults of the models with
+ * {@link GenerateTemplateSchemaFromDefaults} and ships it as {@value #RESOURCE}, so the transformer neither builds nor
+ * formats it at startup.
+ */
+public final class LambdaTemplateSchema {
+    public static final String RESOURCE = "lambda-template-schema.json";
+
+    private static final String TEXT = load();
+
+    private LambdaTemplateSchema() {
+    }
+
+    /**
+     * The schema as the nucleus expects it from {@code RecipeTransformer#initTemplateSchema}.
+     *
+     * @return compact JSON, which the recipe serializer reads as YAML
+     */
+    public static String text() {
+        return TEXT;
+    }
+
+    /**
+     * The schema as an object, for callers that would otherwise parse {@link #text()}.
+     *
+     * @return a new schema, equal to the parsed text
+     */
+    public static TemplateParameterSchema schema() {
+        return new TemplateParameterSchema(GenerateTemplateSchemaFromDefaults.generateTemplateSchema());
+    }
+
+    @SuppressWarnings("PMD.CloseResource") // Closed by read, and absent on the path that does not read it
+    private static String load() {
+        InputStream resource = LambdaTemplateSchema.class.getResourceAsStream(RESOURCE);
+        try {
+            // Only builds that skip process-classes, such as some IDE builds, lack the resource
+            if (resource == null) {
+                return new String(GenerateTemplateSchemaFromDefaults.generateTemplateSchemaJson(),
+                        StandardCharsets.UTF_8);
+            }
+            return read(resource);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Cannot generate the template parameter schema", e);
+        } catch (IOException e) {
+            throw new UncheckedIOException("Cannot read " + RESOURCE, e);
+        }
+    }
+
+    private static String read(InputStream resource) throws IOException {
+        try (InputStream in = resource) {
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[4096];
+            for (int read = in.read(buffer); read != -1; read = in.read(buffer)) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+}
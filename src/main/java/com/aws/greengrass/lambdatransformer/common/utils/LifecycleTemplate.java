@@ -0,0 +1,124 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.common.utils;
+
+import com.aws.greengrass.lambdatransformer.common.models.LambdaRuntime;
+import com.aws.greengrass.lambdatransformer.common.models.LifecycleType;
+
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.SortedMap;
+import java.util.TreeMap;
+import java.util.TreeSet;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_ARTIFACT_NAME;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_LAUNCHER_DEPENDENCY_NAME;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_RUNTIME_DEPENDENCY_NAME;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_ARN_PARAM_NAME;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_ARTIFACT_PATH_PARAM_NAME;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_CONTAINER_MODE_PARAM_NAME;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_CONTAINER_PARAMS_PARAM_NAME;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_ENCODING_TYPE_PARAM_NAME;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_EXEC_ARGS_PARAM_NAME;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_HANDLER_PARAM_NAME;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_LAMBDA_PARAMS_PARAM_NAME;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_LAMBDA_RUNTIME_PARAM_NAME;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_LAMBDA_RUNTIME_PATH_PARAM_NAME;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_STATUS_TIMEOUT_PARAM_NAME;
+
+/**
+ * The lifecycle of a Lambda component for one {@code LambdaRuntime}. Everything but the ARN, the handler and the exec
+ * args is the same for every component, so it is built once. Every map is sorted by key, so that the lifecycle
+ * serializes the same way for the same parameters. Immutable and thread safe.
+ */
+public final class LifecycleTemplate {
+    private static final String SETENV = LifecycleType.setenv.toString().toLowerCase();
+    private static final String STARTUP = LifecycleType.startup.toString();
+    private static final String SHUTDOWN = LifecycleType.shutdown.toString();
+    private static final String REQUIRES_PRIVILEGE = "requiresPrivilege";
+    private static final String SCRIPT = "script";
+    // Top level key of a configuration reference, such as containerParams in {configuration:/containerParams}
+    private static final Pattern CONFIGURATION_REFERENCE = Pattern.compile("\\{configuration:/([^/}]+)");
+    private static final String LAMBDA_LAUNCHER =
+            "{" + LAMBDA_LAUNCHER_DEPENDENCY_NAME + ":artifacts:path}/lambda-launcher";
+
+    private static final String STARTUP_SCRIPT = LAMBDA_LAUNCHER + " start";
+    private static final String SHUTDOWN_SCRIPT = LAMBDA_LAUNCHER + " stop; " + LAMBDA_LAUNCHER + " clean";
+
+    private final SortedMap<String, String> setenv;
+    private final Set<String> configurationKeys;
+
+    LifecycleTemplate(LambdaRuntime runtime) {
+        // With the per-component entries as placeholders, so that the sorted copy is built without comparisons
+        SortedMap<String, String> skeleton = new TreeMap<>();
+        skeleton.put(LAMBDA_SETENV_CONTAINER_MODE_PARAM_NAME, "{configuration:/containerMode}");
+        skeleton.put(LAMBDA_SETENV_ARN_PARAM_NAME, null);
+        skeleton.put(LAMBDA_SETENV_HANDLER_PARAM_NAME, null);
+        skeleton.put(LAMBDA_SETENV_ARTIFACT_PATH_PARAM_NAME, "{artifacts:decompressedPath}/" + LAMBDA_ARTIFACT_NAME);
+        skeleton.put(LAMBDA_SETENV_LAMBDA_PARAMS_PARAM_NAME, "{configuration:/lambdaExecutionParameters}");
+        skeleton.put(LAMBDA_SETENV_LAMBDA_RUNTIME_PATH_PARAM_NAME,
+                "{" + LAMBDA_RUNTIME_DEPENDENCY_NAME + ":artifacts:decompressedPath}/runtime/");
+        skeleton.put(LAMBDA_SETENV_LAMBDA_RUNTIME_PARAM_NAME, runtime.toString());
+        skeleton.put(LAMBDA_SETENV_CONTAINER_PARAMS_PARAM_NAME, "{configuration:/containerParams}");
+        skeleton.put(LAMBDA_SETENV_ENCODING_TYPE_PARAM_NAME, "{configuration:/inputPayloadEncodingType}");
+        skeleton.put(LAMBDA_SETENV_STATUS_TIMEOUT_PARAM_NAME, "{configuration:/statusTimeoutInSeconds}");
+        skeleton.put(LAMBDA_SETENV_EXEC_ARGS_PARAM_NAME, null);
+        this.setenv = Collections.unmodifiableSortedMap(skeleton);
+
+        Set<String> keys = new TreeSet<>();
+        for (String value : skeleton.values()) {
+            if (value != null) {
+                Matcher reference = CONFIGURATION_REFERENCE.matcher(value);
+                while (reference.find()) {
+                    keys.add(reference.group(1));
+                }
+            }
+        }
+        this.configurationKeys = Collections.unmodifiableSet(keys);
+    }
+
+    /**
+     * Top level keys of the default configuration that the lifecycle interpolates into its environment. The Lambda
+     * launcher reads them when it starts, so changing any of them restarts the Lambda.
+     *
+     * @return unmodifiable set of configuration keys
+     */
+    public Set<String> getConfigurationKeys() {
+        return configurationKeys;
+    }
+
+    /**
+     * Build the lifecycle of one component.
+     *
+     * @param lambdaArn    Lambda ARN
+     * @param handlerName  Lambda handler
+     * @param execArgsJson exec args serialized as a JSON array
+     * @return a new top level lifecycle map, with new maps for its steps, which the caller may modify
+     */
+    public Map<String, Object> build(String lambdaArn, String handlerName, String execArgsJson) {
+        Map<String, String> componentSetenv = new TreeMap<>(setenv);
+        componentSetenv.put(LAMBDA_SETENV_ARN_PARAM_NAME, lambdaArn);
+        componentSetenv.put(LAMBDA_SETENV_HANDLER_PARAM_NAME, handlerName);
+        componentSetenv.put(LAMBDA_SETENV_EXEC_ARGS_PARAM_NAME, execArgsJson);
+
+        Map<String, Object> lifecycle = new TreeMap<>();
+        lifecycle.put(SETENV, componentSetenv);
+        // Two small maps per component, so that every expanded recipe can be modified like a recipe from the cache
+        lifecycle.put(STARTUP, step(STARTUP_SCRIPT));
+        lifecycle.put(SHUTDOWN, step(SHUTDOWN_SCRIPT));
+        return lifecycle;
+    }
+
+    private static Map<String, Object> step(String script) {
+        Map<String, Object> step = new TreeMap<>();
+        step.put(REQUIRES_PRIVILEGE, true);
+        step.put(SCRIPT, script);
+        return step;
+    }
+}
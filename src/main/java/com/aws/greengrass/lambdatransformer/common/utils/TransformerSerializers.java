@@ -0,0 +1,112 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.common.utils;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.MapperFeature;
+import com.fasterxml.jackson.databind.Module;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.dataformat.yaml.YAMLFactory;
+
+import java.util.List;
+
+/**
+ * The transformer's Jackson mappers, shared by every transformer instance. Mappers, readers and writers are thread
+ * safe once configured, and the exec args writer below resolves its serializer when it is built, so the first
+ * deployment does not pay for mapper construction or cold serializer caches.
+ *
+ * <p>The exec args writer is the only one prebuilt, because it is the only one every transform uses. Template
+ * parameters are bound by the nucleus with its own mapper, and default configurations are written as trees by
+ * {@link DefaultConfigurationWriter}, so neither needs a reader or writer here. Expansion keys, which serialize the
+ * parameters with {@link #canonicalWriter}, are only computed with the opt-in expansion cache.
+ *
+ * <p>The mappers are plain {@code ObjectMapper}s, so their output is the same as it was with per-instance mappers.
+ * Afterburner, which replaces reflective property access with generated bytecode, is registered when its jar is on
+ * the classpath and {@code -Dlambdatransformer.jackson.afterburner=true} is set. It is opt-in because it is not
+ * shipped with the transformer, and because the nucleus may run on JVMs that restrict class definition.
+ */
+public final class TransformerSerializers {
+    public static final String AFTERBURNER_PROPERTY = "lambdatransformer.jackson.afterburner";
+    static final String AFTERBURNER_MODULE = "com.fasterxml.jackson.module.afterburner.AfterburnerModule";
+
+    private static final ObjectMapper JSON_MAPPER = newJsonMapper(Boolean.getBoolean(AFTERBURNER_PROPERTY));
+    private static final ObjectMapper YAML_MAPPER = new ObjectMapper(new YAMLFactory());
+
+    private static final ObjectWriter EXEC_ARGS_WRITER = JSON_MAPPER.writerFor(new TypeReference<List<String>>() {
+    });
+
+    private TransformerSerializers() {
+    }
+
+    public static ObjectMapper jsonMapper() {
+        return JSON_MAPPER;
+    }
+
+    public static ObjectMapper yamlMapper() {
+        return YAML_MAPPER;
+    }
+
+    /**
+     * Writer of exec args as a JSON array, the form in which they are passed to the Lambda launcher.
+     *
+     * @return shared writer
+     */
+    public static ObjectWriter execArgsWriter() {
+        return EXEC_ARGS_WRITER;
+    }
+
+    /**
+     * Writer that sorts properties and map keys, so that equal values always serialize to the same bytes.
+     *
+     * @param mapper mapper to configure a copy of
+     * @return a new writer
+     */
+    public static ObjectWriter canonicalWriter(ObjectMapper mapper) {
+        return mapper.copy()
+                .configure(MapperFeature.SORT_PROPERTIES_ALPHABETICALLY, true)
+                .configure(SerializationFeature.ORDER_MAP_ENTRIES_BY_KEYS, true)
+                .writer();
+    }
+
+    /**
+     * Whether the shared JSON mapper uses Afterburner.
+     *
+     * @return true if Afterburner was requested and found
+     */
+    public static boolean isAfterburnerEnabled() {
+        return JSON_MAPPER.getRegisteredModuleIds().contains(AFTERBURNER_MODULE);
+    }
+
+    /**
+     * Build a JSON mapper configured like the shared one. Meant for benchmarks comparing both configurations.
+     *
+     * @param afterburner whether to register Afterburner, if it is on the classpath
+     * @return a new mapper
+     */
+    public static ObjectMapper newJsonMapper(boolean afterburner) {
+        ObjectMapper mapper = new ObjectMapper();
+        if (afterburner) {
+            Module afterburnerModule = loadAfterburner();
+            if (afterburnerModule != null) {
+                mapper.registerModule(afterburnerModule);
+            }
+        }
+        return mapper;
+    }
+
+    // Loaded reflectively, so that the transformer neither ships nor compiles against Afterburner
+    private static Module loadAfterburner() {
+        try {
+            return (Module) Class.forName(AFTERBURNER_MODULE, true, TransformerSerializers.class.getClassLoader())
+                    .getConstructor()
+                    .newInstance();
+        } catch (ReflectiveOperationException | LinkageError e) {
+            return null;
+        }
+    }
+}
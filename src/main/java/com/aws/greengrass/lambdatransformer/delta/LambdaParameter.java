@@ -0,0 +1,118 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.delta;
+
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+import com.aws.greengrass.lambdatransformer.common.utils.LambdaComponentUtil;
+import com.aws.greengrass.lambdatransformer.common.utils.LifecycleTemplate;
+
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * Template parameters of a Lambda component, by where they end up in the expanded recipe. A parameter that only sets
+ * one key of the default configuration is {@link ParameterUpdate#HOT_UPDATABLE}, unless the lifecycle interpolates
+ * that key, in which case it restarts the Lambda like the parameters that set the lifecycle, manifests or
+ * dependencies.
+ */
+public enum LambdaParameter {
+    LAMBDA_ARN("lambdaArn", null, LambdaTemplateParams::getLambdaArn),
+    LAMBDA_RUNTIME("lambdaRuntime", null, LambdaTemplateParams::getLambdaRuntime),
+    LAMBDA_HANDLER("lambdaHandler", null, LambdaTemplateParams::getLambdaHandler),
+    PUBSUB_TOPICS("pubsubTopics", "pubsubTopics", LambdaTemplateParams::getEventSources),
+    TIMEOUT_IN_SECONDS("timeoutInSeconds", "timeoutInSeconds", LambdaTemplateParams::getTimeoutInSeconds),
+    PINNED("pinned", "pinned", LambdaTemplateParams::isPinned),
+    STATUS_TIMEOUT_IN_SECONDS("statusTimeoutInSeconds", "statusTimeoutInSeconds",
+            LambdaTemplateParams::getStatusTimeoutInSeconds),
+    MAX_QUEUE_SIZE("maxQueueSize", "maxQueueSize", LambdaTemplateParams::getMaxQueueSize),
+    MAX_INSTANCES_COUNT("maxInstancesCount", "maxInstancesCount", LambdaTemplateParams::getMaxInstancesCount),
+    MAX_IDLE_TIME_IN_SECONDS("maxIdleTimeInSeconds", "maxIdleTimeInSeconds",
+            LambdaTemplateParams::getMaxIdleTimeInSeconds),
+    INPUT_PAYLOAD_ENCODING_TYPE("inputPayloadEncodingType", "inputPayloadEncodingType",
+            LambdaTemplateParams::getInputPayloadEncodingType),
+    PLATFORMS("platforms", null, LambdaTemplateParams::getPlatforms),
+    COMPONENT_DEPENDENCIES("componentDependencies", null, LambdaTemplateParams::getComponentDependencies),
+    LAMBDA_ARGS("lambdaArgs", null, LambdaTemplateParams::getExecArgs),
+    LAMBDA_ENVIRONMENT_VARIABLES("lambdaEnvironmentVariables", "lambdaExecutionParameters",
+            LambdaTemplateParams::getEnvironmentVariables),
+    CONTAINER_MODE("containerMode", "containerMode", LambdaTemplateParams::getContainerMode),
+    CONTAINER_PARAMS("containerParams", "containerParams", LambdaTemplateParams::getContainerParams);
+
+    private final String parameterName;
+    private final ParameterUpdate update;
+    private final Function<LambdaTemplateParams, Object> value;
+
+    LambdaParameter(String parameterName, String configurationKey, Function<LambdaTemplateParams, Object> value) {
+        this.parameterName = parameterName;
+        this.update = configurationKey == null || Interpolated.KEYS.contains(configurationKey)
+                ? ParameterUpdate.RESTART_REQUIRED : ParameterUpdate.HOT_UPDATABLE;
+        this.value = value;
+    }
+
+    /**
+     * Name of the parameter in the template parameter schema.
+     *
+     * @return parameter name
+     */
+    public String getParameterName() {
+        return parameterName;
+    }
+
+    /**
+     * What deploying a change of the parameter takes.
+     *
+     * @return update classification
+     */
+    public ParameterUpdate getUpdate() {
+        return update;
+    }
+
+    /**
+     * Parameters that differ between two sets of parameters, with what deploying each change takes.
+     *
+     * @param previous previous bound template parameters
+     * @param current  current bound template parameters
+     * @return unmodifiable map from parameter name to its update, in schema order; empty if nothing changed
+     */
+    public static Map<String, ParameterUpdate> changesBetween(LambdaTemplateParams previous,
+                                                              LambdaTemplateParams current) {
+        Map<String, ParameterUpdate> changes = new LinkedHashMap<>();
+        for (LambdaParameter parameter : values()) {
+            if (!Objects.equals(parameter.value.apply(previous), parameter.value.apply(current))) {
+                changes.put(parameter.parameterName, parameter.update);
+            }
+        }
+        return Collections.unmodifiableMap(changes);
+    }
+
+    /**
+     * Whether a change of a key of the default configuration restarts the Lambda.
+     *
+     * @param configurationKey top level key of the default configuration
+     * @return true if the lifecycle interpolates the key
+     */
+    static boolean restartsOnChange(String configurationKey) {
+        return Interpolated.KEYS.contains(configurationKey);
+    }
+
+    // Holder, since enum constructors cannot read static fields of their own enum
+    private static final class Interpolated {
+        private static final Set<String> KEYS = configurationKeys();
+
+        private static Set<String> configurationKeys() {
+            Set<String> keys = new HashSet<>();
+            for (LifecycleTemplate lifecycle : LambdaComponentUtil.RUNTIME_TO_LIFECYCLE_TEMPLATE.values()) {
+                keys.addAll(lifecycle.getConfigurationKeys());
+            }
+            return Collections.unmodifiableSet(keys);
+        }
+    }
+}
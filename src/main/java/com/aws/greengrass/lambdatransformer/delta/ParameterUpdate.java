@@ -0,0 +1,21 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.delta;
+
+/**
+ * What deploying a changed template parameter takes.
+ */
+public enum ParameterUpdate {
+    /**
+     * The parameter only changes configuration that the running Lambda reads, so it is updated in place.
+     */
+    HOT_UPDATABLE,
+    /**
+     * The parameter changes the lifecycle, manifests or dependencies of the component, or configuration that the
+     * lifecycle passes to the Lambda launcher when it starts, so the Lambda restarts.
+     */
+    RESTART_REQUIRED,
+}
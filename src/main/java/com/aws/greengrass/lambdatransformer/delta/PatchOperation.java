@@ -0,0 +1,37 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.delta;
+
+import com.fasterxml.jackson.annotation.JsonInclude;
+import com.fasterxml.jackson.annotation.JsonProperty;
+import com.fasterxml.jackson.databind.JsonNode;
+import lombok.Value;
+
+/**
+ * One operation of a JSON Patch (RFC 6902) against a recipe serialized as JSON. The path is a JSON Pointer, and the
+ * value is only set for {@code add} and {@code replace}. Values are shared with the tree of the recipe they were
+ * taken from, so they must not be modified.
+ */
+@Value
+@JsonInclude(JsonInclude.Include.NON_NULL)
+public class PatchOperation {
+    // Named explicitly, since mappers such as the recipe serializer rename properties
+    @JsonProperty("op")
+    Op op;
+    @JsonProperty("path")
+    String path;
+    @JsonProperty("value")
+    JsonNode value;
+
+    public enum Op {
+        @JsonProperty("add")
+        ADD,
+        @JsonProperty("remove")
+        REMOVE,
+        @JsonProperty("replace")
+        REPLACE,
+    }
+}
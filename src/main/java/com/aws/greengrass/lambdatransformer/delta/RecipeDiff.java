@@ -0,0 +1,101 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.delta;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+import com.amazon.aws.iot.greengrass.component.common.SerializerFactory;
+import com.fasterxml.jackson.databind.JsonNode;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Computes the {@link RecipePatch} between two expanded recipes. Objects are compared property by property and lists
+ * element by element, so a changed value is one {@code replace} of that value rather than of its section. Elements
+ * added to or removed from the end of a list are single {@code add} and {@code remove} operations; elements inserted
+ * elsewhere replace the ones after them, which is still minimal for the short lists of a recipe.
+ */
+public final class RecipeDiff {
+    private RecipeDiff() {
+    }
+
+    /**
+     * Patch from one expanded recipe to another.
+     *
+     * @param previous previous expanded recipe
+     * @param current  current expanded recipe
+     * @return the patch, {@link RecipePatch#EMPTY} if the recipes serialize the same way
+     */
+    public static RecipePatch between(ComponentRecipe previous, ComponentRecipe current) {
+        return between(previous, current, Collections.emptyMap());
+    }
+
+    /**
+     * Patch from one expanded recipe to another, with the parameter changes that led to it.
+     *
+     * @param previous         previous expanded recipe
+     * @param current          current expanded recipe
+     * @param parameterUpdates changed parameters, as from {@link LambdaParameter#changesBetween}
+     * @return the patch, {@link RecipePatch#EMPTY} if the recipes serialize the same way
+     */
+    public static RecipePatch between(ComponentRecipe previous, ComponentRecipe current,
+                                      Map<String, ParameterUpdate> parameterUpdates) {
+        JsonNode before = SerializerFactory.getRecipeSerializerJson().valueToTree(previous);
+        JsonNode after = SerializerFactory.getRecipeSerializerJson().valueToTree(current);
+        List<PatchOperation> operations = new ArrayList<>();
+        diff("", before, after, operations);
+        return operations.isEmpty() ? RecipePatch.EMPTY : new RecipePatch(operations, parameterUpdates);
+    }
+
+    private static void diff(String path, JsonNode before, JsonNode after, List<PatchOperation> operations) {
+        if (before.equals(after)) {
+            return;
+        }
+        if (before.isObject() && after.isObject()) {
+            Iterator<Map.Entry<String, JsonNode>> fields = before.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                String fieldPath = path + '/' + escape(field.getKey());
+                JsonNode updated = after.get(field.getKey());
+                if (updated == null) {
+                    operations.add(new PatchOperation(PatchOperation.Op.REMOVE, fieldPath, null));
+                } else {
+                    diff(fieldPath, field.getValue(), updated, operations);
+                }
+            }
+            fields = after.fields();
+            while (fields.hasNext()) {
+                Map.Entry<String, JsonNode> field = fields.next();
+                if (!before.has(field.getKey())) {
+                    operations.add(new PatchOperation(PatchOperation.Op.ADD, path + '/' + escape(field.getKey()),
+                            field.getValue()));
+                }
+            }
+        } else if (before.isArray() && after.isArray()) {
+            int common = Math.min(before.size(), after.size());
+            for (int i = 0; i < common; i++) {
+                diff(path + '/' + i, before.get(i), after.get(i), operations);
+            }
+            // From the end, so that every index is still valid when its operation applies
+            for (int i = before.size() - 1; i >= common; i--) {
+                operations.add(new PatchOperation(PatchOperation.Op.REMOVE, path + '/' + i, null));
+            }
+            for (int i = common; i < after.size(); i++) {
+                operations.add(new PatchOperation(PatchOperation.Op.ADD, path + '/' + i, after.get(i)));
+            }
+        } else {
+            operations.add(new PatchOperation(PatchOperation.Op.REPLACE, path, after));
+        }
+    }
+
+    // JSON Pointer escapes, RFC 6901
+    private static String escape(String key) {
+        return key.replace("~", "~0").replace("/", "~1");
+    }
+}
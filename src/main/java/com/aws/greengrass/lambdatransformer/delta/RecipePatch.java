@@ -0,0 +1,165 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.delta;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+import com.amazon.aws.iot.greengrass.component.common.SerializerFactory;
+import com.aws.greengrass.deployment.templating.exceptions.RecipeTransformerException;
+import com.fasterxml.jackson.annotation.JsonValue;
+import com.fasterxml.jackson.core.JsonPointer;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.ToString;
+
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Changes from one expanded recipe to another, as a JSON Patch (RFC 6902) against the previous recipe serialized as
+ * JSON, with the sections of the recipe that they change and whether deploying them restarts the Lambda. Patches
+ * between parameters also classify every changed parameter. Serializes as the JSON Patch document. Immutable.
+ */
+@ToString
+@SuppressWarnings("PMD.DataClass") // Getters of what the patch changes, and it applies itself to a recipe
+public final class RecipePatch {
+    public static final RecipePatch EMPTY = new RecipePatch(Collections.emptyList(), Collections.emptyMap());
+
+    private static final String APPEND = "-";
+    private static final String PATH_DOES_NOT_EXIST = "Patch path does not exist: ";
+    private static final String DEFAULT_CONFIGURATION = "DefaultConfiguration";
+
+    private final List<PatchOperation> operations;
+    private final Set<RecipeSection> changedSections;
+    private final Map<String, ParameterUpdate> parameterUpdates;
+    private final boolean restartRequired;
+
+    RecipePatch(List<PatchOperation> operations, Map<String, ParameterUpdate> parameterUpdates) {
+        this.operations = Collections.unmodifiableList(operations);
+        this.parameterUpdates = parameterUpdates;
+        Set<RecipeSection> sections = EnumSet.noneOf(RecipeSection.class);
+        boolean restarts = false;
+        for (PatchOperation operation : operations) {
+            // The first segment of every path is a top level property of the recipe
+            JsonPointer path = JsonPointer.compile(operation.getPath());
+            RecipeSection section = RecipeSection.of(path.getMatchingProperty());
+            sections.add(section);
+            restarts |= section != RecipeSection.CONFIGURATION || restartsOnChange(path.tail());
+        }
+        this.changedSections = Collections.unmodifiableSet(sections);
+        this.restartRequired = restarts;
+    }
+
+    /**
+     * Operations of the patch, in the order they apply.
+     *
+     * @return unmodifiable list of operations
+     */
+    @JsonValue
+    public List<PatchOperation> getOperations() {
+        return operations;
+    }
+
+    /**
+     * Sections of the recipe that the patch changes.
+     *
+     * @return unmodifiable set of sections, empty if nothing changes
+     */
+    public Set<RecipeSection> getChangedSections() {
+        return changedSections;
+    }
+
+    /**
+     * Template parameters that changed, with what deploying each change takes. Only patches between parameters have
+     * them; patches between recipes tell whether they restart the Lambda with {@link #isRestartRequired()} alone.
+     *
+     * @return unmodifiable map from parameter name to its update, in schema order
+     */
+    public Map<String, ParameterUpdate> getParameterUpdates() {
+        return parameterUpdates;
+    }
+
+    /**
+     * Whether deploying the patch restarts the Lambda. Only changes to configuration that the lifecycle does not
+     * interpolate are applied to the running Lambda.
+     *
+     * @return true if the patch changes anything but such configuration
+     */
+    public boolean isRestartRequired() {
+        return restartRequired;
+    }
+
+    public boolean isEmpty() {
+        return operations.isEmpty();
+    }
+
+    /**
+     * Apply the patch to the recipe it was computed against.
+     *
+     * @param previous the previous expanded recipe
+     * @return the current expanded recipe, as a new instance
+     * @throws RecipeTransformerException if the patch does not apply to the recipe
+     */
+    public ComponentRecipe applyTo(ComponentRecipe previous) throws RecipeTransformerException {
+        ObjectMapper mapper = SerializerFactory.getRecipeSerializerJson();
+        JsonNode recipe = mapper.valueToTree(previous);
+        for (PatchOperation operation : operations) {
+            apply(recipe, operation);
+        }
+        try {
+            return mapper.treeToValue(recipe, ComponentRecipe.class);
+        } catch (JsonProcessingException e) {
+            throw new RecipeTransformerException(e);
+        }
+    }
+
+    // Path below ComponentConfiguration; anything that is not within one key of the default configuration restarts
+    private static boolean restartsOnChange(JsonPointer configurationPath) {
+        if (!DEFAULT_CONFIGURATION.equalsIgnoreCase(configurationPath.getMatchingProperty())) {
+            return true;
+        }
+        JsonPointer keyPath = configurationPath.tail();
+        return keyPath == null || keyPath.matches() || LambdaParameter.restartsOnChange(keyPath.getMatchingProperty());
+    }
+
+    private static void apply(JsonNode recipe, PatchOperation operation) throws RecipeTransformerException {
+        JsonPointer path = JsonPointer.compile(operation.getPath());
+        JsonNode parent = recipe.at(path.head());
+        String name = path.last().getMatchingProperty();
+        if (parent.isObject()) {
+            ObjectNode object = (ObjectNode) parent;
+            if (operation.getOp() != PatchOperation.Op.ADD && !object.has(name)) {
+                throw new RecipeTransformerException(PATH_DOES_NOT_EXIST + operation.getPath());
+            }
+            if (operation.getOp() == PatchOperation.Op.REMOVE) {
+                object.remove(name);
+            } else {
+                object.set(name, operation.getValue().deepCopy());
+            }
+        } else if (parent.isArray()) {
+            ArrayNode array = (ArrayNode) parent;
+            int index = APPEND.equals(name) ? array.size() : path.last().getMatchingIndex();
+            int bound = operation.getOp() == PatchOperation.Op.ADD ? array.size() : array.size() - 1;
+            if (index < 0 || index > bound) {
+                throw new RecipeTransformerException(PATH_DOES_NOT_EXIST + operation.getPath());
+            }
+            if (operation.getOp() == PatchOperation.Op.REMOVE) {
+                array.remove(index);
+            } else if (operation.getOp() == PatchOperation.Op.ADD) {
+                array.insert(index, operation.getValue().deepCopy());
+            } else {
+                array.set(index, operation.getValue().deepCopy());
+            }
+        } else {
+            throw new RecipeTransformerException(PATH_DOES_NOT_EXIST + operation.getPath());
+        }
+    }
+}
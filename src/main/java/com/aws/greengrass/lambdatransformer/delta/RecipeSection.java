@@ -0,0 +1,39 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.delta;
+
+/**
+ * Sections of an expanded recipe that a {@link RecipePatch} can change, by their property in the serialized recipe.
+ */
+public enum RecipeSection {
+    CONFIGURATION("ComponentConfiguration"),
+    LIFECYCLE("Lifecycle"),
+    MANIFESTS("Manifests"),
+    DEPENDENCIES("ComponentDependencies"),
+    // Everything else: name, version, description, publisher, source and type
+    METADATA(null);
+
+    private final String property;
+
+    RecipeSection(String property) {
+        this.property = property;
+    }
+
+    /**
+     * The section of a top level property of a serialized recipe.
+     *
+     * @param property property name, as serialized
+     * @return its section
+     */
+    static RecipeSection of(String property) {
+        for (RecipeSection section : values()) {
+            if (section.property != null && section.property.equalsIgnoreCase(property)) {
+                return section;
+            }
+        }
+        return METADATA;
+    }
+}
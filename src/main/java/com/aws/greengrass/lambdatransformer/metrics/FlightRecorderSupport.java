@@ -0,0 +1,61 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.metrics;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+
+/**
+ * Entry point for the transformer's JDK Flight Recorder events. JFR ships with JDK 11 and later and with JDK 8u262
+ * and later; on other JVMs every recording is a no-op. The event classes are only loaded once JFR is known to be
+ * present, so nothing outside this package refers to them.
+ */
+public final class FlightRecorderSupport {
+    private static final boolean AVAILABLE = isFlightRecorderPresent();
+
+    private FlightRecorderSupport() {
+    }
+
+    public static boolean isAvailable() {
+        return AVAILABLE;
+    }
+
+    /**
+     * Begin recording a transform.
+     *
+     * @param paramFile parameter recipe being expanded
+     * @param params    bound template parameters
+     * @return a running recording, or a no-op when JFR is missing or the event is disabled
+     */
+    public static TransformRecording beginTransform(ComponentRecipe paramFile, LambdaTemplateParams params) {
+        if (!AVAILABLE) {
+            return TransformRecording.NOOP;
+        }
+        return JfrTransformRecording.begin(paramFile, params);
+    }
+
+    /**
+     * Begin recording the template schema initialization.
+     *
+     * @param schema the template schema document about to be parsed
+     * @return a running recording, or a no-op when JFR is missing or the event is disabled
+     */
+    public static SchemaInitializationRecording beginSchemaInitialization(String schema) {
+        if (!AVAILABLE) {
+            return SchemaInitializationRecording.NOOP;
+        }
+        return JfrSchemaInitializationRecording.begin(schema);
+    }
+
+    private static boolean isFlightRecorderPresent() {
+        try {
+            Class.forName("jdk.jfr.Event", false, FlightRecorderSupport.class.getClassLoader());
+            return true;
+        } catch (ClassNotFoundException | LinkageError e) {
+            return false;
+        }
+    }
+}
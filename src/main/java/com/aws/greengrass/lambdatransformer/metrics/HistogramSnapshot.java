@@ -0,0 +1,28 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.metrics;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Summary of a {@link LogLinearHistogram} at one point in time. Percentiles are the upper bound of the bucket they
+ * fall in, capped at the largest recorded value.
+ */
+@Value
+@Builder
+public class HistogramSnapshot {
+    static final HistogramSnapshot EMPTY = HistogramSnapshot.builder().build();
+
+    long count;
+    long min;
+    long max;
+    double mean;
+    long p50;
+    long p90;
+    long p99;
+    long p999;
+}
@@ -0,0 +1,38 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.metrics;
+
+import com.amazon.aws.iot.greengrass.component.common.TemplateParameterSchema;
+
+import java.nio.charset.StandardCharsets;
+
+final class JfrSchemaInitializationRecording implements SchemaInitializationRecording {
+    private final SchemaInitializationEvent event;
+
+    private JfrSchemaInitializationRecording(SchemaInitializationEvent event) {
+        this.event = event;
+    }
+
+    static SchemaInitializationRecording begin(String schema) {
+        SchemaInitializationEvent event = new SchemaInitializationEvent();
+        if (!event.isEnabled()) {
+            return NOOP;
+        }
+        event.schemaSize = schema.getBytes(StandardCharsets.UTF_8).length;
+        event.begin();
+        return new JfrSchemaInitializationRecording(event);
+    }
+
+    @Override
+    public void commit(TemplateParameterSchema templateRecipeSchema) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return;
+        }
+        event.templateParameterCount = templateRecipeSchema == null ? 0 : templateRecipeSchema.size();
+        event.commit();
+    }
+}
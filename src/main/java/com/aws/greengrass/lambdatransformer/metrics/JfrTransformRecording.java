@@ -0,0 +1,72 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.metrics;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+import com.aws.greengrass.lambdatransformer.common.models.TemplateContainerParams;
+import com.aws.greengrass.lambdatransformer.common.utils.CountingOutputStream;
+import com.aws.greengrass.lambdatransformer.common.utils.Digests;
+
+import java.io.IOException;
+import java.security.DigestOutputStream;
+import java.security.MessageDigest;
+import java.util.Collection;
+
+final class JfrTransformRecording implements TransformRecording {
+    private final TransformEvent event;
+
+    private JfrTransformRecording(TransformEvent event) {
+        this.event = event;
+    }
+
+    static TransformRecording begin(ComponentRecipe paramFile, LambdaTemplateParams params) {
+        TransformEvent event = new TransformEvent();
+        if (!event.isEnabled()) {
+            return NOOP;
+        }
+        event.begin();
+        event.componentName = paramFile.getComponentName();
+        event.componentVersion = paramFile.getComponentVersion() == null ? null
+                : paramFile.getComponentVersion().getValue();
+        event.lambdaRuntime = params.getLambdaRuntime() == null ? null : params.getLambdaRuntime().name();
+        event.platformCount = size(params.getPlatforms());
+        event.eventSourceCount = size(params.getEventSources());
+        TemplateContainerParams containerParams = params.getContainerParams();
+        if (containerParams != null) {
+            event.volumeCount = size(containerParams.getVolumes());
+            event.deviceCount = size(containerParams.getDevices());
+        }
+        return new JfrTransformRecording(event);
+    }
+
+    @Override
+    public long commit(ComponentRecipe expandedRecipe) {
+        event.end();
+        if (!event.shouldCommit()) {
+            return -1;
+        }
+        // Serializing is as expensive as the transform itself, so it is only done for events that are kept, and
+        // only once for both the size and the digest
+        MessageDigest digest = Digests.sha256();
+        long outputSize = -1;
+        try (CountingOutputStream counter = new CountingOutputStream();
+             DigestOutputStream out = new DigestOutputStream(counter, digest)) {
+            Digests.writeCanonical(expandedRecipe, out);
+            outputSize = counter.getCount();
+            event.outputSize = outputSize;
+            event.outputDigest = Digests.hex(digest.digest());
+        } catch (IOException e) {
+            // Only the size and digest are lost, the event is still worth recording
+        }
+        event.commit();
+        return outputSize;
+    }
+
+    private static int size(Collection<?> collection) {
+        return collection == null ? 0 : collection.size();
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.metrics;
+
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Lock-free histogram of non-negative values, bucketed the way HdrHistogram does it: values below
+ * {@code 2 * SUB_BUCKET_COUNT} have a bucket each, and every power of two above that is split into
+ * {@code SUB_BUCKET_COUNT} equal buckets, so a bucket is never wider than about 3% of the values in it. Values above
+ * the highest trackable value are counted as that value.
+ */
+final class LogLinearHistogram {
+    private static final int SUB_BUCKET_BITS = 5;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final double[] QUANTILES = {0.5, 0.9, 0.99, 0.999};
+
+    private final long highestTrackableValue;
+    private final AtomicLongArray counts;
+    private final LongAdder sum = new LongAdder();
+    private final AtomicLong min = new AtomicLong(Long.MAX_VALUE);
+    private final AtomicLong max = new AtomicLong();
+
+    /**
+     * Create an empty histogram.
+     *
+     * @param highestTrackableBits values up to {@code 2^highestTrackableBits - 1} are tracked
+     */
+    LogLinearHistogram(int highestTrackableBits) {
+        if (highestTrackableBits <= SUB_BUCKET_BITS || highestTrackableBits > Long.SIZE - 1) {
+            throw new IllegalArgumentException("highestTrackableBits must be between " + (SUB_BUCKET_BITS + 1)
+                    + " and " + (Long.SIZE - 1));
+        }
+        this.highestTrackableValue = (1L << highestTrackableBits) - 1;
+        this.counts = new AtomicLongArray(bucketIndex(highestTrackableValue) + 1);
+    }
+
+    void record(long value) {
+        long clamped = Math.min(Math.max(value, 0), highestTrackableValue);
+        counts.incrementAndGet(bucketIndex(clamped));
+        sum.add(clamped);
+        if (clamped < min.get()) {
+            min.accumulateAndGet(clamped, Math::min);
+        }
+        if (clamped > max.get()) {
+            max.accumulateAndGet(clamped, Math::max);
+        }
+    }
+
+    HistogramSnapshot snapshot() {
+        long[] buckets = new long[counts.length()];
+        long total = 0;
+        for (int i = 0; i < buckets.length; i++) {
+            long count = counts.get(i);
+            buckets[i] = count;
+            total += count;
+        }
+        if (total == 0) {
+            return HistogramSnapshot.EMPTY;
+        }
+
+        long largest = max.get();
+        long[] percentiles = new long[QUANTILES.length];
+        int quantile = 0;
+        long seen = 0;
+        for (int i = 0; i < buckets.length && quantile < QUANTILES.length; i++) {
+            seen += buckets[i];
+            while (quantile < QUANTILES.length && seen >= rank(QUANTILES[quantile], total)) {
+                percentiles[quantile] = Math.min(highestEquivalentValue(i), largest);
+                quantile++;
+            }
+        }
+        return HistogramSnapshot.builder()
+                .count(total)
+                .min(min.get())
+                .max(largest)
+                .mean((double) sum.sum() / total)
+                .p50(percentiles[0])
+                .p90(percentiles[1])
+                .p99(percentiles[2])
+                .p999(percentiles[3])
+                .build();
+    }
+
+    private static long rank(double quantile, long total) {
+        return Math.max(1, (long) Math.ceil(quantile * total));
+    }
+
+    static int bucketIndex(long value) {
+        if (value < 2 * SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        // Each power of two above the linear range gets SUB_BUCKET_COUNT buckets of width 2^shift
+        int shift = Long.SIZE - 1 - Long.numberOfLeadingZeros(value) - SUB_BUCKET_BITS;
+        return (shift + 1) * SUB_BUCKET_COUNT + (int) (value >>> shift) - SUB_BUCKET_COUNT;
+    }
+
+    static long highestEquivalentValue(int index) {
+        if (index < 2 * SUB_BUCKET_COUNT) {
+            return index;
+        }
+        int shift = index / SUB_BUCKET_COUNT - 1;
+        long lowest = (long) (index % SUB_BUCKET_COUNT + SUB_BUCKET_COUNT) << shift;
+        return lowest + (1L << shift) - 1;
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.metrics;
+
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+
+import java.util.Collection;
+import java.util.Map;
+
+/**
+ * Times consecutive phases of one transformation. Each {@link #lap} ends the current phase and starts the next one.
+ * Not thread safe; use one timer per transformation.
+ */
+public final class PhaseTimer {
+    static final PhaseTimer NOOP = new PhaseTimer(false, null, null);
+
+    private final boolean enabled;
+    private final String componentName;
+    private final String componentVersion;
+    private long phaseStartNanos;
+    private int topicCount;
+    private int mountCount;
+    private int environmentVariableCount;
+
+    PhaseTimer(String componentName, String componentVersion) {
+        this(true, componentName, componentVersion);
+    }
+
+    private PhaseTimer(boolean enabled, String componentName, String componentVersion) {
+        this.enabled = enabled;
+        this.componentName = componentName;
+        this.componentVersion = componentVersion;
+        this.phaseStartNanos = System.nanoTime();
+    }
+
+    /**
+     * Record the input sizes reported with every following phase.
+     *
+     * @param params bound template parameters
+     */
+    public void inputs(LambdaTemplateParams params) {
+        if (!enabled) {
+            return;
+        }
+        topicCount = size(params.getEventSources());
+        mountCount = params.getContainerParams() == null ? 0 : size(params.getContainerParams().getVolumes())
+                + size(params.getContainerParams().getDevices());
+        Map<String, String> environmentVariables = params.getEnvironmentVariables();
+        environmentVariableCount = environmentVariables == null ? 0 : environmentVariables.size();
+    }
+
+    /**
+     * End the given phase, report it, and start timing the next one.
+     *
+     * @param phase the phase that just finished
+     */
+    public void lap(TransformPhase phase) {
+        if (!enabled) {
+            return;
+        }
+        long now = System.nanoTime();
+        TransformListeners.publish(PhaseTiming.builder()
+                .componentName(componentName)
+                .componentVersion(componentVersion)
+                .phase(phase)
+                .startNanos(phaseStartNanos)
+                .endNanos(now)
+                .topicCount(topicCount)
+                .mountCount(mountCount)
+                .environmentVariableCount(environmentVariableCount)
+                .build());
+        // Time spent in the listeners is not charged to the next phase
+        phaseStartNanos = System.nanoTime();
+    }
+
+    private static int size(Collection<?> collection) {
+        return collection == null ? 0 : collection.size();
+    }
+}
@@ -0,0 +1,30 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.metrics;
+
+import lombok.Builder;
+import lombok.Value;
+
+/**
+ * Start and end of one phase of expanding a component, with the sizes of the inputs that drive its cost. Times are
+ * {@link System#nanoTime()} values and only meaningful relative to each other.
+ */
+@Value
+@Builder
+public class PhaseTiming {
+    String componentName;
+    String componentVersion;
+    TransformPhase phase;
+    long startNanos;
+    long endNanos;
+    int topicCount;
+    int mountCount;
+    int environmentVariableCount;
+
+    public long getDurationNanos() {
+        return endNanos - startNanos;
+    }
+}
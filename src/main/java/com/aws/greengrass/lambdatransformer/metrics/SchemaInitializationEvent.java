@@ -0,0 +1,37 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.metrics;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for parsing and validating the template schema when the nucleus loads the transformer.
+ */
+@Name(SchemaInitializationEvent.NAME)
+@Label("Lambda Template Schema Initialization")
+@Description("Parsing and validation of the Lambda template parameter schema")
+@Category({"Greengrass", "Lambda Transformer"})
+@StackTrace(false)
+@SuppressFBWarnings(value = "URF_UNREAD_FIELD", justification = "Fields are read by Flight Recorder")
+class SchemaInitializationEvent extends Event {
+    static final String NAME = "com.aws.greengrass.lambdatransformer.SchemaInitialization";
+
+    @Label("Schema Size")
+    @Description("Length of the template schema document")
+    @DataAmount
+    long schemaSize;
+
+    @Label("Template Parameter Count")
+    @Description("Number of parameters declared by the template recipe")
+    int templateParameterCount;
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.metrics;
+
+import com.amazon.aws.iot.greengrass.component.common.TemplateParameterSchema;
+
+/**
+ * A Flight Recorder event for a template schema initialization that has begun. Obtain one from
+ * {@link FlightRecorderSupport#beginSchemaInitialization}; this type does not reference JFR.
+ */
+public interface SchemaInitializationRecording {
+    SchemaInitializationRecording NOOP = templateRecipeSchema -> {
+    };
+
+    /**
+     * End the initialization and record it, if Flight Recorder is recording the event.
+     *
+     * @param templateRecipeSchema the parameter schema declared by the template recipe
+     */
+    void commit(TemplateParameterSchema templateRecipeSchema);
+}
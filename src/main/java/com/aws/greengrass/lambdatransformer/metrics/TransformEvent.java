@@ -0,0 +1,58 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.metrics;
+
+import edu.umd.cs.findbugs.annotations.SuppressFBWarnings;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Flight Recorder event for expanding one Lambda parameter recipe. The event duration covers the whole transform.
+ */
+@Name(TransformEvent.NAME)
+@Label("Lambda Recipe Transform")
+@Description("Expansion of a Lambda parameter recipe into a component recipe")
+@Category({"Greengrass", "Lambda Transformer"})
+@StackTrace(false)
+@SuppressFBWarnings(value = "URF_UNREAD_FIELD", justification = "Fields are read by Flight Recorder")
+class TransformEvent extends Event {
+    static final String NAME = "com.aws.greengrass.lambdatransformer.Transform";
+
+    @Label("Component Name")
+    String componentName;
+
+    @Label("Component Version")
+    String componentVersion;
+
+    @Label("Lambda Runtime")
+    String lambdaRuntime;
+
+    @Label("Platform Count")
+    int platformCount;
+
+    @Label("Event Source Count")
+    int eventSourceCount;
+
+    @Label("Volume Count")
+    int volumeCount;
+
+    @Label("Device Count")
+    int deviceCount;
+
+    @Label("Output Size")
+    @Description("Size of the expanded recipe serialized as canonical JSON")
+    @DataAmount
+    long outputSize;
+
+    @Label("Output Digest")
+    @Description("SHA-256 of the expanded recipe serialized as canonical JSON")
+    String outputDigest;
+}
@@ -0,0 +1,16 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.metrics;
+
+/**
+ * Receives the timing of every transformation phase. Register with {@link TransformListeners#add}, or list the
+ * implementation in {@code META-INF/services/com.aws.greengrass.lambdatransformer.metrics.TransformListener}.
+ *
+ * <p>Listeners are called synchronously on the deployment thread, so they should only record the timing and return.
+ */
+public interface TransformListener {
+    void onPhase(PhaseTiming timing);
+}
@@ -0,0 +1,63 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.metrics;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+
+import java.util.List;
+import java.util.ServiceLoader;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registry of {@link TransformListener}s. It is static because the nucleus creates the transformer itself, so there
+ * is no instance to register on. Listeners found through {@link ServiceLoader} are registered when this class loads.
+ */
+public final class TransformListeners {
+    private static final List<TransformListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    static {
+        for (TransformListener listener : ServiceLoader.load(TransformListener.class,
+                TransformListener.class.getClassLoader())) {
+            LISTENERS.add(listener);
+        }
+    }
+
+    private TransformListeners() {
+    }
+
+    public static void add(TransformListener listener) {
+        LISTENERS.add(listener);
+    }
+
+    public static void remove(TransformListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    /**
+     * Start timing the phases of expanding the given recipe.
+     *
+     * @param recipe parameter recipe being expanded
+     * @return a running timer, or a timer that does nothing when no listener is registered
+     */
+    public static PhaseTimer startTimer(ComponentRecipe recipe) {
+        if (LISTENERS.isEmpty()) {
+            return PhaseTimer.NOOP;
+        }
+        return new PhaseTimer(recipe.getComponentName(),
+                recipe.getComponentVersion() == null ? null : recipe.getComponentVersion().getValue());
+    }
+
+    @SuppressWarnings("PMD.AvoidCatchingGenericException") // A broken listener must never fail a deployment
+    static void publish(PhaseTiming timing) {
+        for (TransformListener listener : LISTENERS) {
+            try {
+                listener.onPhase(timing);
+            } catch (RuntimeException e) {
+                // Skipped, the other listeners still get the timing
+            }
+        }
+    }
+}
@@ -0,0 +1,36 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.metrics;
+
+/**
+ * Phases of expanding one Lambda parameter recipe, in the order they run.
+ */
+public enum TransformPhase {
+    /**
+     * Merging schema defaults into the template parameters, validating and binding them.
+     */
+    PARAMETER_MERGE,
+    /**
+     * Building the runtime specific exec arguments.
+     */
+    EXEC_ARGS,
+    /**
+     * Building the setenv, startup and shutdown lifecycle.
+     */
+    LIFECYCLE,
+    /**
+     * Building the default configuration and converting it to a JSON tree.
+     */
+    CONFIGURATION,
+    /**
+     * Adding the Lambda launcher, runtime and token exchange service dependencies.
+     */
+    DEPENDENCIES,
+    /**
+     * Building one manifest per platform.
+     */
+    MANIFESTS
+}
@@ -0,0 +1,24 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.metrics;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+
+/**
+ * A Flight Recorder event for one transform that has begun. Obtain one from
+ * {@link FlightRecorderSupport#beginTransform}; this type does not reference JFR, so callers load on any JVM.
+ */
+public interface TransformRecording {
+    TransformRecording NOOP = expandedRecipe -> -1;
+
+    /**
+     * End the transform and record it, if Flight Recorder is recording the event.
+     *
+     * @param expandedRecipe the recipe produced by the transform
+     * @return size of the recipe serialized as JSON, if the event was recorded and serialized it, otherwise -1
+     */
+    long commit(ComponentRecipe expandedRecipe);
+}
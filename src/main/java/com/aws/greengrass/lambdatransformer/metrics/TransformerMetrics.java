@@ -0,0 +1,164 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.metrics;
+
+import com.aws.greengrass.lambdatransformer.common.models.LambdaRuntime;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReferenceArray;
+import java.util.concurrent.atomic.LongAdder;
+import javax.management.JMException;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+/**
+ * Expansion metrics of the transformer, registered on the platform MBean server when this class loads. The nucleus
+ * loads the transformer jar in its own classloader, so every load starts from zero and replaces the MBean registered
+ * by the previous one. Recording is lock-free and safe from any thread.
+ *
+ * <p>Output sizes come from serializations that happen anyway, for the expansion cache or a recorded Flight Recorder
+ * event. One in every N other expansions is measured, where N is the {@value #OUTPUT_SIZE_SAMPLE_INTERVAL_PROPERTY}
+ * system property, {@value #DEFAULT_OUTPUT_SIZE_SAMPLE_INTERVAL} by default, and none if it is 0.
+ */
+public final class TransformerMetrics implements TransformerMetricsMXBean {
+    public static final String OBJECT_NAME = "com.aws.greengrass.lambdatransformer:type=TransformerMetrics";
+    public static final String OUTPUT_SIZE_SAMPLE_INTERVAL_PROPERTY =
+            "lambdatransformer.metrics.outputSizeSampleInterval";
+    public static final int DEFAULT_OUTPUT_SIZE_SAMPLE_INTERVAL = 16;
+
+    // About 18 minutes in nanoseconds, and 4 GiB
+    private static final int LATENCY_HIGHEST_TRACKABLE_BITS = 40;
+    private static final int OUTPUT_SIZE_HIGHEST_TRACKABLE_BITS = 32;
+    private static final LambdaRuntime[] RUNTIMES = LambdaRuntime.values();
+    private static final TransformerMetrics INSTANCE = register(new TransformerMetrics());
+
+    private final LongAdder componentsExpanded = new LongAdder();
+    private final Map<String, LongAdder> failuresByCause = new ConcurrentHashMap<>();
+    // Indexed by runtime ordinal and created on first use, most deployments only ever see one or two runtimes
+    private final AtomicReferenceArray<LogLinearHistogram> latencies = new AtomicReferenceArray<>(RUNTIMES.length);
+    private final AtomicReferenceArray<LogLinearHistogram> outputSizes = new AtomicReferenceArray<>(RUNTIMES.length);
+    private final int outputSizeSampleInterval;
+    private final AtomicLong unmeasuredOutputs = new AtomicLong();
+
+    TransformerMetrics() {
+        this(Integer.getInteger(OUTPUT_SIZE_SAMPLE_INTERVAL_PROPERTY, DEFAULT_OUTPUT_SIZE_SAMPLE_INTERVAL));
+    }
+
+    TransformerMetrics(int outputSizeSampleInterval) {
+        this.outputSizeSampleInterval = outputSizeSampleInterval;
+    }
+
+    public static TransformerMetrics getInstance() {
+        return INSTANCE;
+    }
+
+    /**
+     * Record a successful expansion.
+     *
+     * @param runtime       runtime of the expanded Lambda
+     * @param durationNanos time taken by the expansion
+     */
+    public void expanded(LambdaRuntime runtime, long durationNanos) {
+        componentsExpanded.increment();
+        if (runtime != null) {
+            histogram(latencies, runtime, LATENCY_HIGHEST_TRACKABLE_BITS).record(durationNanos);
+        }
+    }
+
+    /**
+     * Whether to measure the output size of an expansion that was not serialized anyway. Counting the serialized
+     * bytes costs about as much as the expansion itself, so only a sample of the expansions is measured.
+     *
+     * @return true for one in every sample interval calls
+     */
+    public boolean sampleOutputSize() {
+        return outputSizeSampleInterval > 0 && unmeasuredOutputs.getAndIncrement() % outputSizeSampleInterval == 0;
+    }
+
+    /**
+     * Record the size of an expanded recipe serialized as JSON.
+     *
+     * @param runtime   runtime of the expanded Lambda
+     * @param sizeBytes size of the serialized recipe
+     */
+    public void serialized(LambdaRuntime runtime, long sizeBytes) {
+        if (runtime != null) {
+            histogram(outputSizes, runtime, OUTPUT_SIZE_HIGHEST_TRACKABLE_BITS).record(sizeBytes);
+        }
+    }
+
+    /**
+     * Record a failed expansion.
+     *
+     * @param failure the exception the expansion failed with
+     */
+    public void failed(Exception failure) {
+        Throwable cause = failure.getCause() == null ? failure : failure.getCause();
+        failuresByCause.computeIfAbsent(cause.getClass().getSimpleName(), key -> new LongAdder()).increment();
+    }
+
+    @Override
+    public long getComponentsExpanded() {
+        return componentsExpanded.sum();
+    }
+
+    @Override
+    public Map<String, Long> getFailuresByCause() {
+        Map<String, Long> failures = new TreeMap<>();
+        failuresByCause.forEach((cause, count) -> failures.put(cause, count.sum()));
+        return failures;
+    }
+
+    @Override
+    public Map<String, HistogramSnapshot> getLatencyNanosByRuntime() {
+        return snapshots(latencies);
+    }
+
+    @Override
+    public Map<String, HistogramSnapshot> getOutputSizeBytesByRuntime() {
+        return snapshots(outputSizes);
+    }
+
+    private static LogLinearHistogram histogram(AtomicReferenceArray<LogLinearHistogram> histograms,
+                                                LambdaRuntime runtime, int highestTrackableBits) {
+        LogLinearHistogram histogram = histograms.get(runtime.ordinal());
+        if (histogram == null) {
+            histograms.compareAndSet(runtime.ordinal(), null, new LogLinearHistogram(highestTrackableBits));
+            histogram = histograms.get(runtime.ordinal());
+        }
+        return histogram;
+    }
+
+    private static Map<String, HistogramSnapshot> snapshots(AtomicReferenceArray<LogLinearHistogram> histograms) {
+        Map<String, HistogramSnapshot> snapshots = new TreeMap<>();
+        for (LambdaRuntime runtime : RUNTIMES) {
+            LogLinearHistogram histogram = histograms.get(runtime.ordinal());
+            if (histogram != null) {
+                snapshots.put(runtime.name(), histogram.snapshot());
+            }
+        }
+        return snapshots;
+    }
+
+    private static TransformerMetrics register(TransformerMetrics metrics) {
+        try {
+            MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+            ObjectName name = new ObjectName(OBJECT_NAME);
+            // Left behind by a previous load of the transformer jar
+            if (server.isRegistered(name)) {
+                server.unregisterMBean(name);
+            }
+            server.registerMBean(metrics, name);
+        } catch (JMException | SecurityException e) {
+            // The metrics are still recorded, they just cannot be read over JMX
+        }
+        return metrics;
+    }
+}
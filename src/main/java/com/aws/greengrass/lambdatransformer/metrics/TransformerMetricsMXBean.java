@@ -0,0 +1,44 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.metrics;
+
+import java.util.Map;
+
+/**
+ * Expansion metrics published over JMX as {@value TransformerMetrics#OBJECT_NAME}. Histograms are keyed by
+ * {@code LambdaRuntime} name and only contain runtimes that have been expanded at least once.
+ */
+public interface TransformerMetricsMXBean {
+    /**
+     * Number of components expanded successfully.
+     *
+     * @return expanded component count
+     */
+    long getComponentsExpanded();
+
+    /**
+     * Failed expansions, keyed by the simple class name of the cause of the {@code RecipeTransformerException}, or
+     * of the exception itself when it has no cause.
+     *
+     * @return failure counts by cause
+     */
+    Map<String, Long> getFailuresByCause();
+
+    /**
+     * Time to merge the parameters and expand the recipe, in nanoseconds.
+     *
+     * @return latency histograms by runtime
+     */
+    Map<String, HistogramSnapshot> getLatencyNanosByRuntime();
+
+    /**
+     * Size of the expanded recipe serialized as JSON, in bytes. Recorded for expansions that are serialized anyway,
+     * and for a sample of the others, see {@link TransformerMetrics#OUTPUT_SIZE_SAMPLE_INTERVAL_PROPERTY}.
+     *
+     * @return output size histograms by runtime
+     */
+    Map<String, HistogramSnapshot> getOutputSizeBytesByRuntime();
+}
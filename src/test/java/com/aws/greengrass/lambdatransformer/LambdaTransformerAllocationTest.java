@@ -0,0 +1,76 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+import com.sun.management.ThreadMXBean;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Bytes allocated by a single warmed-up transform. The budgets are roughly twice what was measured when they were
+ * recorded, so they catch regressions without failing on JVM or Jackson noise. Lower them when transform gets
+ * cheaper; raise them only with a reason.
+ */
+public class LambdaTransformerAllocationTest {
+    // Measured ~5 KB and ~8 KB per transform
+    private static final long MINIMAL_RECIPE_BUDGET_BYTES = 12 * 1024;
+    private static final long FULL_RECIPE_BUDGET_BYTES = 16 * 1024;
+
+    private static final int WARMUP_TRANSFORMS = 20_000;
+    private static final int MEASURED_TRANSFORMS = 100;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static ThreadMXBean threadMXBean;
+
+    @BeforeAll
+    static void beforeAll() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        assumeTrue(bean instanceof ThreadMXBean, "Thread allocation counters are not available on this JVM");
+        threadMXBean = (ThreadMXBean) bean;
+        assumeTrue(threadMXBean.isThreadAllocatedMemorySupported(), "Thread allocation counters are not supported");
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+    }
+
+    @Test
+    void GIVEN_minimal_recipe_WHEN_transform_THEN_allocation_is_within_budget() throws Exception {
+        assertThat(bytesPerTransform(TestRecipes.MINIMAL_RECIPE), lessThanOrEqualTo(MINIMAL_RECIPE_BUDGET_BYTES));
+    }
+
+    @Test
+    void GIVEN_full_recipe_WHEN_transform_THEN_allocation_is_within_budget() throws Exception {
+        assertThat(bytesPerTransform(TestRecipes.FULL_RECIPE), lessThanOrEqualTo(FULL_RECIPE_BUDGET_BYTES));
+    }
+
+    private static long bytesPerTransform(String recipeResource) throws Exception {
+        ComponentRecipe recipe = TestRecipes.read(recipeResource);
+        LambdaTemplateParams params = TestRecipes.bind(recipe);
+        LambdaTransformer transformer = new LambdaTransformer();
+        for (int i = 0; i < WARMUP_TRANSFORMS; i++) {
+            transformer.transform(recipe, params);
+        }
+
+        // Take the quietest round, so that a stray allocation from the JIT or the test harness does not count
+        long threadId = Thread.currentThread().getId();
+        long best = Long.MAX_VALUE;
+        for (int round = 0; round < MEASURED_ROUNDS; round++) {
+            long before = threadMXBean.getThreadAllocatedBytes(threadId);
+            for (int i = 0; i < MEASURED_TRANSFORMS; i++) {
+                transformer.transform(recipe, params);
+            }
+            long after = threadMXBean.getThreadAllocatedBytes(threadId);
+            best = Math.min(best, (after - before) / MEASURED_TRANSFORMS);
+        }
+        return best;
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+import com.amazon.aws.iot.greengrass.component.common.RecipeFormatVersion;
+import com.amazon.aws.iot.greengrass.component.common.SerializerFactory;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaRuntime;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vdurmont.semver4j.Semver;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.Callable;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+/**
+ * Many threads expanding components through one transformer instance, each with the same parameter objects. Every
+ * expansion must serialize exactly like the single-threaded one, and the shared parameters must be left as they are.
+ */
+public class LambdaTransformerConcurrencyTest {
+    private static final int THREADS = Math.max(8, 2 * Runtime.getRuntime().availableProcessors());
+    private static final int ROUNDS_PER_THREAD = 200;
+    private static final ObjectMapper RECIPE_SERIALIZER = SerializerFactory.getRecipeSerializer();
+
+    private final LambdaTransformer transformer = new LambdaTransformer();
+    private ExecutorService executor;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        TestRecipes.initTemplateRecipe(transformer, TestRecipes.read(TestRecipes.TEMPLATE_RECIPE));
+        executor = Executors.newFixedThreadPool(THREADS);
+    }
+
+    @AfterEach
+    void afterEach() throws InterruptedException {
+        executor.shutdownNow();
+        assertTrue(executor.awaitTermination(1, TimeUnit.MINUTES));
+    }
+
+    @Test
+    void GIVEN_shared_parameters_WHEN_transform_concurrently_THEN_same_as_single_threaded() throws Exception {
+        ComponentRecipe paramFile = ComponentRecipe.builder()
+                .recipeFormatVersion(RecipeFormatVersion.JAN_25_2020)
+                .componentName("concurrent")
+                .componentVersion(new Semver("1.0.0"))
+                .build();
+        List<LambdaTemplateParams> inputs = Arrays.asList(
+                TestRecipes.bind(TestRecipes.read(TestRecipes.MINIMAL_RECIPE)),
+                TestRecipes.bind(TestRecipes.read(TestRecipes.FULL_RECIPE)),
+                TestRecipes.paramsOfSize(10),
+                TestRecipes.paramsOfSize(100),
+                // The default dependencies are an immutable map
+                LambdaTemplateParams.builder()
+                        .lambdaArn("arn:aws:lambda:us-west-2:123456789012:function:defaults:1")
+                        .lambdaRuntime(LambdaRuntime.Java8)
+                        .lambdaHandler("Handler::handle")
+                        .build());
+        List<String> expected = new ArrayList<>();
+        List<String> inputsBefore = new ArrayList<>();
+        for (LambdaTemplateParams params : inputs) {
+            expected.add(RECIPE_SERIALIZER.writeValueAsString(transformer.transform(paramFile, params)));
+            inputsBefore.add(RECIPE_SERIALIZER.writeValueAsString(params));
+        }
+
+        runConcurrently(inputs.size(), index -> RECIPE_SERIALIZER.writeValueAsString(
+                transformer.transform(paramFile, inputs.get(index))), expected);
+
+        for (int i = 0; i < inputs.size(); i++) {
+            assertEquals(inputsBefore.get(i), RECIPE_SERIALIZER.writeValueAsString(inputs.get(i)));
+        }
+    }
+
+    @Test
+    void GIVEN_shared_recipes_WHEN_execute_concurrently_THEN_same_as_single_threaded() throws Exception {
+        List<ComponentRecipe> inputs = Arrays.asList(TestRecipes.read(TestRecipes.MINIMAL_RECIPE),
+                TestRecipes.read(TestRecipes.FULL_RECIPE));
+        List<String> expected = new ArrayList<>();
+        for (ComponentRecipe recipe : inputs) {
+            expected.add(RECIPE_SERIALIZER.writeValueAsString(transformer.execute(recipe)));
+        }
+
+        runConcurrently(inputs.size(),
+                index -> RECIPE_SERIALIZER.writeValueAsString(transformer.execute(inputs.get(index))), expected);
+    }
+
+    /**
+     * Start every thread at once, each cycling through the inputs from its own offset, and compare every output with
+     * the expected one.
+     */
+    private void runConcurrently(int inputCount, Expansion expansion, List<String> expected) throws Exception {
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<?>> futures = new ArrayList<>();
+        for (int thread = 0; thread < THREADS; thread++) {
+            int offset = thread;
+            futures.add(executor.submit((Callable<Void>) () -> {
+                start.await();
+                for (int round = 0; round < ROUNDS_PER_THREAD; round++) {
+                    int index = (offset + round) % inputCount;
+                    assertEquals(expected.get(index), expansion.expand(index), "Input " + index);
+                }
+                return null;
+            }));
+        }
+        start.countDown();
+        for (Future<?> future : futures) {
+            future.get(5, TimeUnit.MINUTES);
+        }
+    }
+
+    @FunctionalInterface
+    private interface Expansion {
+        String expand(int index) throws Exception;
+    }
+}
@@ -0,0 +1,98 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+import com.aws.greengrass.lambdatransformer.metrics.FlightRecorderSupport;
+import jdk.jfr.FlightRecorder;
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasSize;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+public class LambdaTransformerFlightRecorderTest {
+    private static final String TRANSFORM_EVENT = "com.aws.greengrass.lambdatransformer.Transform";
+    private static final String SCHEMA_INITIALIZATION_EVENT =
+            "com.aws.greengrass.lambdatransformer.SchemaInitialization";
+
+    @BeforeAll
+    static void beforeAll() {
+        assumeTrue(FlightRecorderSupport.isAvailable(), "Flight Recorder is not present on this JVM");
+        assumeTrue(FlightRecorder.isAvailable(), "Flight Recorder is disabled on this JVM");
+    }
+
+    @Test
+    void GIVEN_recording_WHEN_transform_THEN_transform_event_is_committed() throws Exception {
+        ComponentRecipe recipe = TestRecipes.read(TestRecipes.FULL_RECIPE);
+        LambdaTransformer transformer = new LambdaTransformer();
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(TRANSFORM_EVENT);
+            recording.start();
+            transformer.transform(recipe, TestRecipes.bind(recipe));
+            recording.stop();
+            events = recordedEvents(recording, TRANSFORM_EVENT);
+        }
+
+        assertThat(events, hasSize(1));
+        RecordedEvent event = events.get(0);
+        assertEquals("cloud-hello", event.getString("componentName"));
+        assertEquals("3.2.1", event.getString("componentVersion"));
+        assertEquals("Nodejs12X", event.getString("lambdaRuntime"));
+        assertEquals(2, event.getInt("platformCount"));
+        assertEquals(2, event.getInt("eventSourceCount"));
+        assertEquals(2, event.getInt("volumeCount"));
+        assertEquals(1, event.getInt("deviceCount"));
+        assertThat(event.getLong("outputSize"), greaterThan(0L));
+        assertThat(event.getDuration().toNanos(), greaterThan(0L));
+    }
+
+    @Test
+    void GIVEN_recording_WHEN_init_template_recipe_THEN_schema_initialization_event_is_committed()
+            throws Exception {
+        ComponentRecipe templateRecipe = TestRecipes.read(TestRecipes.TEMPLATE_RECIPE);
+
+        List<RecordedEvent> events;
+        try (Recording recording = new Recording()) {
+            recording.enable(SCHEMA_INITIALIZATION_EVENT);
+            recording.start();
+            TestRecipes.initTemplateRecipe(new LambdaTransformer(), templateRecipe);
+            recording.stop();
+            events = recordedEvents(recording, SCHEMA_INITIALIZATION_EVENT);
+        }
+
+        assertThat(events, hasSize(1));
+        RecordedEvent event = events.get(0);
+        assertEquals(new LambdaTransformer().initTemplateSchema().length(), event.getLong("schemaSize"));
+        assertEquals(templateRecipe.getTemplateParameterSchema().size(), event.getInt("templateParameterCount"));
+    }
+
+    private static List<RecordedEvent> recordedEvents(Recording recording, String eventName) throws IOException {
+        Path dump = Files.createTempFile("lambda-transformer", ".jfr");
+        try {
+            recording.dump(dump);
+            return RecordingFile.readAllEvents(dump).stream()
+                    .filter(event -> eventName.equals(event.getEventType().getName()))
+                    .collect(Collectors.toList());
+        } finally {
+            Files.delete(dump);
+        }
+    }
+}
@@ -0,0 +1,67 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+import com.amazon.aws.iot.greengrass.component.common.RecipeFormatVersion;
+import com.aws.greengrass.lambdatransformer.common.models.DefaultConfiguration;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.vdurmont.semver4j.Semver;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.openjdk.jol.info.GraphLayout;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+
+/**
+ * Retained size of what one expanded Lambda keeps in memory. Each parameter size {@code n} has {@code n} environment
+ * variables, pubsub topics, volumes and devices. Thresholds are a fixed base plus a cost per {@code n}, about twice
+ * what was measured when they were recorded.
+ */
+public class LambdaTransformerFootprintTest {
+    private static final long KB = 1024;
+
+    // Measured ~2 KB + 0.5 KB * n
+    private static final long PARAMS_BASE = 4 * KB;
+    private static final long PARAMS_PER_ENTRY = KB;
+    // Measured ~0.5 KB + 0.75 KB * n
+    private static final long DEFAULT_CONFIGURATION_BASE = 2 * KB;
+    private static final long DEFAULT_CONFIGURATION_PER_ENTRY = 3 * KB / 2;
+    // Measured ~3 KB + 1.65 KB * n
+    private static final long CONFIGURATION_NODE_BASE = 6 * KB;
+    private static final long CONFIGURATION_NODE_PER_ENTRY = 7 * KB / 2;
+    // Measured ~8 KB + 1.65 KB * n
+    private static final long RECIPE_BASE = 16 * KB;
+    private static final long RECIPE_PER_ENTRY = 7 * KB / 2;
+
+    @ParameterizedTest
+    @ValueSource(ints = {10, 100, 1000})
+    void GIVEN_parameters_of_size_n_WHEN_transform_THEN_retained_size_is_within_threshold(int n) throws Exception {
+        LambdaTemplateParams params = TestRecipes.paramsOfSize(n);
+        LambdaTransformer transformer = new LambdaTransformer();
+        DefaultConfiguration defaultConfiguration = TestRecipes.defaultConfiguration(params);
+        ComponentRecipe recipe = transformer.transform(ComponentRecipe.builder()
+                .recipeFormatVersion(RecipeFormatVersion.JAN_25_2020)
+                .componentName("footprint")
+                .componentVersion(new Semver("1.0.0"))
+                .build(), params);
+        JsonNode configurationNode = recipe.getComponentConfiguration().getDefaultConfiguration();
+
+        long paramsSize = GraphLayout.parseInstance(params).totalSize();
+        long defaultConfigurationSize = GraphLayout.parseInstance(defaultConfiguration).totalSize();
+        long configurationNodeSize = GraphLayout.parseInstance(configurationNode).totalSize();
+        long recipeSize = GraphLayout.parseInstance(recipe).totalSize();
+
+        assertThat(paramsSize, lessThanOrEqualTo(PARAMS_BASE + PARAMS_PER_ENTRY * n));
+        assertThat(defaultConfigurationSize,
+                lessThanOrEqualTo(DEFAULT_CONFIGURATION_BASE + DEFAULT_CONFIGURATION_PER_ENTRY * n));
+        assertThat(configurationNodeSize,
+                lessThanOrEqualTo(CONFIGURATION_NODE_BASE + CONFIGURATION_NODE_PER_ENTRY * n));
+        assertThat(recipeSize, lessThanOrEqualTo(RECIPE_BASE + RECIPE_PER_ENTRY * n));
+    }
+}
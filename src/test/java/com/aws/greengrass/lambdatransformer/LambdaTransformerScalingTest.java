@@ -0,0 +1,119 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+import com.amazon.aws.iot.greengrass.component.common.RecipeFormatVersion;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+import com.sun.management.ThreadMXBean;
+import com.vdurmont.semver4j.Semver;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.condition.EnabledIfSystemProperty;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.util.concurrent.TimeUnit;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+/**
+ * Time and bytes allocated by transform as the parameters grow from 10 to 100,000 environment variables, pubsub
+ * topics, volumes and devices each. Every tenfold increase in size may cost at most {@code 10 * slack} times more; a
+ * quadratic step would cost a hundred times more and fail. Garbage collection pauses are not counted as transform
+ * time: at the largest sizes a single transform outgrows the young generation, and how long the collector then takes
+ * depends on the heap settings rather than on the transformer.
+ *
+ * <p>Wall-clock time depends on what else the host is doing, so the timing check only runs with
+ * {@code -Dperf.scalingTiming=true}. The allocation check always runs.
+ */
+public class LambdaTransformerScalingTest {
+    private static final int[] SIZES = {10, 100, 1_000, 10_000, 100_000};
+    // Time is noisy and caches stop helping at the largest sizes, allocation is close to exact
+    private static final double TIME_SLACK = 3.0;
+    private static final double ALLOCATION_SLACK = 1.5;
+
+    private static final int WARMUP_TRANSFORMS = 2_000;
+    private static final int MEASURED_ROUNDS = 5;
+
+    private static ThreadMXBean threadMXBean;
+
+    private final LambdaTransformer transformer = new LambdaTransformer();
+    private final ComponentRecipe recipe = ComponentRecipe.builder()
+            .recipeFormatVersion(RecipeFormatVersion.JAN_25_2020)
+            .componentName("scaling")
+            .componentVersion(new Semver("1.0.0"))
+            .build();
+
+    @BeforeAll
+    static void beforeAll() {
+        java.lang.management.ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof ThreadMXBean && ((ThreadMXBean) bean).isThreadAllocatedMemorySupported()) {
+            threadMXBean = (ThreadMXBean) bean;
+        }
+    }
+
+    @Test
+    @EnabledIfSystemProperty(named = "perf.scalingTiming", matches = "true")
+    void GIVEN_growing_parameters_WHEN_transform_THEN_time_grows_linearly() throws Exception {
+        warmUp();
+        long previous = 0;
+        for (int size : SIZES) {
+            LambdaTemplateParams params = TestRecipes.paramsOfSize(size);
+            long best = Long.MAX_VALUE;
+            for (int round = 0; round < MEASURED_ROUNDS; round++) {
+                long gcBefore = gcPauseNanos();
+                long start = System.nanoTime();
+                transformer.transform(recipe, params);
+                long elapsed = System.nanoTime() - start;
+                best = Math.min(best, elapsed - (gcPauseNanos() - gcBefore));
+            }
+            if (previous > 0) {
+                assertThat((double) best, lessThanOrEqualTo(previous * 10 * TIME_SLACK));
+            }
+            previous = best;
+        }
+    }
+
+    @Test
+    void GIVEN_growing_parameters_WHEN_transform_THEN_allocation_grows_linearly() throws Exception {
+        assumeTrue(threadMXBean != null, "Thread allocation counters are not available on this JVM");
+        threadMXBean.setThreadAllocatedMemoryEnabled(true);
+        warmUp();
+        long threadId = Thread.currentThread().getId();
+        long previous = 0;
+        for (int size : SIZES) {
+            LambdaTemplateParams params = TestRecipes.paramsOfSize(size);
+            long best = Long.MAX_VALUE;
+            for (int round = 0; round < MEASURED_ROUNDS; round++) {
+                long before = threadMXBean.getThreadAllocatedBytes(threadId);
+                transformer.transform(recipe, params);
+                best = Math.min(best, threadMXBean.getThreadAllocatedBytes(threadId) - before);
+            }
+            if (previous > 0) {
+                assertThat((double) best, lessThanOrEqualTo(previous * 10 * ALLOCATION_SLACK));
+            }
+            previous = best;
+        }
+    }
+
+    private static long gcPauseNanos() {
+        long millis = 0;
+        for (GarbageCollectorMXBean collector : ManagementFactory.getGarbageCollectorMXBeans()) {
+            millis += Math.max(0, collector.getCollectionTime());
+        }
+        return TimeUnit.MILLISECONDS.toNanos(millis);
+    }
+
+    private void warmUp() throws Exception {
+        LambdaTemplateParams params = TestRecipes.paramsOfSize(SIZES[1]);
+        for (int i = 0; i < WARMUP_TRANSFORMS; i++) {
+            transformer.transform(recipe, params);
+        }
+    }
+}
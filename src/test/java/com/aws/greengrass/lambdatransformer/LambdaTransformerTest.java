@@ -12,9 +12,12 @@ import com.amazon.aws.iot.greengrass.component.common.DependencyType;
 import com.amazon.aws.iot.greengrass.component.common.Platform;
 import com.amazon.aws.iot.greengrass.component.common.RecipeFormatVersion;
 import com.aws.greengrass.deployment.templating.exceptions.RecipeTransformerException;
+import com.aws.greengrass.lambdatransformer.cache.ExpansionCache;
 import com.aws.greengrass.lambdatransformer.common.models.DefaultConfiguration;
 import com.aws.greengrass.lambdatransformer.common.models.LambdaRuntime;
 import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+import com.aws.greengrass.lambdatransformer.metrics.HistogramSnapshot;
+import com.aws.greengrass.lambdatransformer.metrics.TransformerMetrics;
 import com.fasterxml.jackson.databind.DeserializationFeature;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import com.vdurmont.semver4j.Semver;
@@ -28,16 +31,20 @@ import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_LAUNCHER_DEPENDENCY_NAME;
 import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_ARN_PARAM_NAME;
 import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_HANDLER_PARAM_NAME;
 import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_LAMBDA_RUNTIME_PARAM_NAME;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
+import static org.hamcrest.Matchers.hasKey;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 public class LambdaTransformerTest {
@@ -108,6 +115,58 @@ public class LambdaTransformerTest {
         verifyGeneratedComponentRecipe(generated, TestData.COMPONENT_NAME_1, new Semver(TestData.COMPONENT_VERSION_STR_1), params);
     }
 
+    @Test
+    void GIVEN_expansion_cache_WHEN_same_parameters_transformed_again_THEN_return_cached_recipe() throws Exception {
+        ExpansionCache cache = new ExpansionCache(10, ExpansionCache.DEFAULT_MAX_WEIGHT_BYTES);
+        LambdaTransformer transformer = new LambdaTransformer(cache);
+        LambdaTemplateParams params = TestData.LAMBDA_PARAMETERS_2
+                .platforms(Collections.singletonList(TestData.all))
+                .build();
+        ComponentRecipe paramFile = ComponentRecipe.builder()
+                .recipeFormatVersion(RecipeFormatVersion.JAN_25_2020)
+                .componentName(TestData.COMPONENT_NAME_1)
+                .componentVersion(new Semver(TestData.COMPONENT_VERSION_STR_1))
+                .build();
+
+        HistogramSnapshot outputSizes = TransformerMetrics.getInstance().getOutputSizeBytesByRuntime()
+                .get(LambdaRuntime.Python37.name());
+        long outputSizeCount = outputSizes == null ? 0 : outputSizes.getCount();
+
+        ComponentRecipe generated = transformer.transform(paramFile, params);
+
+        ComponentRecipe cached = transformer.transform(paramFile, TestData.LAMBDA_PARAMETERS_2.build());
+        assertEquals(generated, cached);
+        assertNotSame(generated, cached);
+        assertNotEquals(generated, transformer.transform(ComponentRecipe.builder()
+                .recipeFormatVersion(RecipeFormatVersion.JAN_25_2020)
+                .componentName(TestData.COMPONENT_NAME_1)
+                .componentVersion(new Semver(TestData.COMPONENT_VERSION_STR_1))
+                .componentDescription("changed")
+                .build(), params));
+        assertEquals(1, cache.getHits());
+        assertEquals(2, cache.getMisses());
+        // Measured from what the cache serialized, once per miss
+        assertEquals(outputSizeCount + 2, TransformerMetrics.getInstance().getOutputSizeBytesByRuntime()
+                .get(LambdaRuntime.Python37.name()).getCount());
+    }
+
+    @Test
+    void GIVEN_expansion_cache_WHEN_invalid_parameters_transformed_THEN_throw_before_cache_lookup() {
+        ExpansionCache cache = new ExpansionCache(10, ExpansionCache.DEFAULT_MAX_WEIGHT_BYTES);
+        LambdaTemplateParams params = TestData.LAMBDA_PARAMETERS_2
+                .platforms(Collections.emptyList())
+                .build();
+        ComponentRecipe paramFile = ComponentRecipe.builder()
+                .recipeFormatVersion(RecipeFormatVersion.JAN_25_2020)
+                .componentName(TestData.COMPONENT_NAME_1)
+                .componentVersion(new Semver(TestData.COMPONENT_VERSION_STR_1))
+                .build();
+
+        assertThrows(RecipeTransformerException.class, () -> new LambdaTransformer(cache).transform(paramFile, params));
+        assertEquals(0, cache.getHits());
+        assertEquals(0, cache.getMisses());
+    }
+
     @ParameterizedTest
     @NullAndEmptySource
     public void GIVEN_lambdaRequest_WHEN_create_component_from_lambda_with_empty_platform_THEN_throw_transformer_exception(List<Platform> platforms) {
@@ -159,7 +218,10 @@ public class LambdaTransformerTest {
         assertThat(shutdownMap, hasEntry("requiresPrivilege", true));
         assertThat(shutdownMap, hasEntry(equalTo("script"), notNullValue()));
 
-        assertEquals(recipe.getComponentDependencies().size(), params.getComponentDependencies().size());
+        // The Lambda dependencies are added to a copy of the component's dependencies
+        assertEquals(recipe.getComponentDependencies().size(), params.getComponentDependencies().size() + 3);
+        assertThat(recipe.getComponentDependencies(), hasKey(LAMBDA_LAUNCHER_DEPENDENCY_NAME));
+        assertThat(params.getComponentDependencies(), not(hasKey(LAMBDA_LAUNCHER_DEPENDENCY_NAME)));
 
         assertNotNull(recipe.getComponentConfiguration().getDefaultConfiguration());
         assertNotEquals(recipe.getComponentConfiguration().getDefaultConfiguration().size(), 0);
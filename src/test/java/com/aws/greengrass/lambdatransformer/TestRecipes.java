@@ -0,0 +1,159 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+import com.amazon.aws.iot.greengrass.component.common.SerializerFactory;
+import com.amazon.aws.iot.greengrass.component.common.TemplateParameter;
+import com.amazon.aws.iot.greengrass.component.common.TemplateParameterSchema;
+import com.aws.greengrass.deployment.templating.RecipeTransformer;
+import com.aws.greengrass.lambdatransformer.common.models.ContainerParams;
+import com.aws.greengrass.lambdatransformer.common.models.DefaultConfiguration;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaDeviceMount;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaEventSource;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaExecutionParameters;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaFilesystemPermission;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaRuntime;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaVolumeMount;
+import com.aws.greengrass.lambdatransformer.common.models.TemplateContainerParams;
+import com.aws.greengrass.lambdatransformer.common.utils.LambdaTemplateSchema;
+import com.fasterxml.jackson.databind.ObjectMapper;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Parameter recipes shared with the integration tests, which are also on the unit test classpath.
+ */
+public final class TestRecipes {
+    private static final String RECIPE_ROOT = "/com/aws/greengrass/lambdatransformer/integrationtests/";
+    public static final String MINIMAL_RECIPE = RECIPE_ROOT + "minimal_recipes/python-listener-1.0.0.yaml";
+    public static final String FULL_RECIPE = RECIPE_ROOT + "full_recipes/cloud-hello-3.2.1.yaml";
+    public static final String TEMPLATE_RECIPE = RECIPE_ROOT + "full_recipes/LambdaTemplate-1.0.0.yaml";
+    // cloud-hello without the required lambdaArn
+    public static final String BAD_RECIPE = RECIPE_ROOT + "bad_recipes/cloud-hello-3.2.1.yaml";
+
+    private TestRecipes() {
+    }
+
+    public static ComponentRecipe read(String resource) throws IOException {
+        try (InputStream in = TestRecipes.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("Recipe " + resource + " is not on the test classpath");
+            }
+            return SerializerFactory.getRecipeSerializer().readValue(in, ComponentRecipe.class);
+        }
+    }
+
+    // Same merge and binding as RecipeTransformer#mergeAndValidateComponentParams, minus the schema validation
+    public static LambdaTemplateParams bind(ComponentRecipe recipe) throws IOException {
+        ObjectMapper recipeSerializer = SerializerFactory.getRecipeSerializer();
+        TemplateParameterSchema schema = LambdaTemplateSchema.schema();
+        Map<String, Object> merged = new LinkedHashMap<>(recipe.getTemplateParameters());
+        for (Map.Entry<String, TemplateParameter> entry : schema.entrySet()) {
+            if (entry.getValue().getDefaultValue() != null) {
+                merged.putIfAbsent(entry.getKey(), entry.getValue().getDefaultValue());
+            }
+        }
+        return recipeSerializer.readValue(recipeSerializer.writeValueAsString(merged), LambdaTemplateParams.class);
+    }
+
+    /**
+     * Initialize the transformer with the template recipe, the way TransformerWrapper does before its first execute.
+     */
+    public static void initTemplateRecipe(RecipeTransformer transformer, ComponentRecipe templateRecipe)
+            throws ReflectiveOperationException {
+        // Package-private in the nucleus
+        Method initTemplateRecipe = RecipeTransformer.class.getDeclaredMethod("initTemplateRecipe",
+                ComponentRecipe.class);
+        initTemplateRecipe.setAccessible(true);
+        initTemplateRecipe.invoke(transformer, templateRecipe);
+    }
+
+    /**
+     * Parameters with {@code n} environment variables, pubsub topics, volumes and devices each.
+     */
+    public static LambdaTemplateParams paramsOfSize(int n) {
+        Map<String, String> environmentVariables = new HashMap<>();
+        List<LambdaEventSource> eventSources = new ArrayList<>();
+        List<LambdaVolumeMount> volumes = new ArrayList<>();
+        List<LambdaDeviceMount> devices = new ArrayList<>();
+        for (int i = 0; i < n; i++) {
+            environmentVariables.put("ENV_VAR_" + i, "value-" + i);
+            eventSources.add(LambdaEventSource.builder().topic("fleet/device/" + i + "/telemetry").build());
+            volumes.add(LambdaVolumeMount.builder()
+                    .source("/data/source/" + i)
+                    .destination("/data/destination/" + i)
+                    .permission(LambdaFilesystemPermission.RO)
+                    .addGroupOwner(false)
+                    .build());
+            devices.add(LambdaDeviceMount.builder()
+                    .path("/dev/device" + i)
+                    .permission(LambdaFilesystemPermission.RW)
+                    .addGroupOwner(true)
+                    .build());
+        }
+        return LambdaTemplateParams.builder()
+                .lambdaArn("arn:aws:lambda:us-west-2:123456789012:function:generated:1")
+                .lambdaRuntime(LambdaRuntime.Python38)
+                .lambdaHandler("index.handler")
+                .environmentVariables(environmentVariables)
+                .eventSources(eventSources)
+                .containerParams(TemplateContainerParams.builder().volumes(volumes).devices(devices).build())
+                .componentDependencies(new HashMap<>())
+                .build();
+    }
+
+    /**
+     * The default configuration of the parameters as an object graph, the way the transformer used to build it.
+     * Converting it with an {@code ObjectMapper} gives the same tree that {@code DefaultConfigurationWriter} writes.
+     */
+    public static DefaultConfiguration defaultConfiguration(LambdaTemplateParams params) {
+        return DefaultConfiguration
+                .builder()
+                .containerMode(params.getContainerMode())
+                .lambdaExecutionParameters(
+                        LambdaExecutionParameters
+                                .builder()
+                                .environmentalVariables(new TreeMap<>(params.getEnvironmentVariables()))
+                                .build())
+                .containerParams(
+                        ContainerParams
+                                .builder()
+                                .devices(indexedMap(params.getContainerParams().getDevices()))
+                                .volumes(indexedMap(params.getContainerParams().getVolumes()))
+                                .memorySizeInKB(params.getContainerParams().getMemorySizeInKB())
+                                .mountROSysfs(params.getContainerParams().isMountROSysfs())
+                                .build())
+                .timeoutInSeconds(params.getTimeoutInSeconds())
+                .statusTimeoutInSeconds(params.getStatusTimeoutInSeconds())
+                .pinned(params.isPinned())
+                .inputPayloadEncodingType(params.getInputPayloadEncodingType())
+                .pubsubTopics(indexedMap(params.getEventSources()))
+                .maxInstancesCount(params.getMaxInstancesCount())
+                .maxQueueSize(params.getMaxQueueSize())
+                .maxIdleTimeInSeconds(params.getMaxIdleTimeInSeconds())
+                .build();
+    }
+
+    // Every element keyed by its position in the list, "0" to "n-1", in list order
+    private static <T> Map<String, T> indexedMap(List<T> list) {
+        Map<String, T> indexed = new LinkedHashMap<>();
+        int index = 0;
+        for (T element : list) {
+            indexed.put(Integer.toString(index++), element);
+        }
+        return indexed;
+    }
+}
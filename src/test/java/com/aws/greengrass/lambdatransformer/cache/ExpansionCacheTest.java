@@ -0,0 +1,141 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.cache;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+import com.amazon.aws.iot.greengrass.component.common.RecipeFormatVersion;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaRuntime;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+import com.vdurmont.semver4j.Semver;
+import org.junit.jupiter.api.Test;
+
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+
+public class ExpansionCacheTest {
+    private static final String COMPONENT_NAME = "com.example.CachedLambda";
+
+    private static ComponentRecipe paramFile(String version, String description) {
+        return ComponentRecipe.builder()
+                .recipeFormatVersion(RecipeFormatVersion.JAN_25_2020)
+                .componentName(COMPONENT_NAME)
+                .componentVersion(new Semver(version))
+                .componentDescription(description)
+                .build();
+    }
+
+    private static LambdaTemplateParams params(Map<String, String> environmentVariables) {
+        return LambdaTemplateParams.builder()
+                .lambdaArn("arn:aws:lambda:us-west-2:123456789012:function:cached:1")
+                .lambdaRuntime(LambdaRuntime.Python38)
+                .lambdaHandler("index.handler")
+                .environmentVariables(environmentVariables)
+                .build();
+    }
+
+    private static ExpansionKey key(String version) throws Exception {
+        return ExpansionKey.of(paramFile(version, null), params(null));
+    }
+
+    @Test
+    void GIVEN_equal_inputs_WHEN_keyed_THEN_equal_keys_whatever_the_map_order() throws Exception {
+        Map<String, String> ab = new LinkedHashMap<>();
+        ab.put("A", "1");
+        ab.put("B", "2");
+        Map<String, String> ba = new LinkedHashMap<>();
+        ba.put("B", "2");
+        ba.put("A", "1");
+
+        ExpansionKey key = ExpansionKey.of(paramFile("1.0.0", "cached"), params(ab));
+
+        assertEquals(key, ExpansionKey.of(paramFile("1.0.0", "cached"), params(ba)));
+        assertEquals(64, key.toString().length());
+        assertNotEquals(key, ExpansionKey.of(paramFile("1.0.1", "cached"), params(ab)));
+        assertNotEquals(key, ExpansionKey.of(paramFile("1.0.0", "changed"), params(ab)));
+        assertNotEquals(key, ExpansionKey.of(paramFile("1.0.0", "cached"), params(null)));
+    }
+
+    @Test
+    void GIVEN_cached_expansion_WHEN_get_THEN_equal_recipe_and_counted() throws Exception {
+        ExpansionCache cache = new ExpansionCache(2, ExpansionCache.DEFAULT_MAX_WEIGHT_BYTES);
+        ComponentRecipe recipe = paramFile("1.0.0", null);
+
+        assertNull(cache.get(key("1.0.0")));
+        cache.put(key("1.0.0"), recipe);
+
+        ComponentRecipe cached = cache.get(key("1.0.0"));
+        assertEquals(recipe, cached);
+        assertNotSame(recipe, cached);
+        assertEquals(1, cache.getHits());
+        assertEquals(1, cache.getMisses());
+        assertEquals(1, cache.getEntries());
+    }
+
+    @Test
+    void GIVEN_cached_recipe_modified_by_caller_WHEN_get_again_THEN_unchanged() throws Exception {
+        ExpansionCache cache = new ExpansionCache(2, ExpansionCache.DEFAULT_MAX_WEIGHT_BYTES);
+        Map<String, Object> lifecycle = new HashMap<>(Collections.singletonMap("run", "cached"));
+        ComponentRecipe recipe = ComponentRecipe.builder()
+                .recipeFormatVersion(RecipeFormatVersion.JAN_25_2020)
+                .componentName(COMPONENT_NAME)
+                .componentVersion(new Semver("1.0.0"))
+                .lifecycle(lifecycle)
+                .build();
+        cache.put(key("1.0.0"), recipe);
+
+        cache.get(key("1.0.0")).getLifecycle().put("run", "modified by the first caller");
+        lifecycle.put("run", "modified after put");
+
+        assertEquals(Collections.singletonMap("run", "cached"), cache.get(key("1.0.0")).getLifecycle());
+    }
+
+    @Test
+    void GIVEN_full_cache_WHEN_put_THEN_least_recently_used_is_evicted() throws Exception {
+        ExpansionCache cache = new ExpansionCache(2, ExpansionCache.DEFAULT_MAX_WEIGHT_BYTES);
+        cache.put(key("1.0.0"), paramFile("1.0.0", null));
+        cache.put(key("2.0.0"), paramFile("2.0.0", null));
+        cache.get(key("1.0.0"));
+
+        cache.put(key("3.0.0"), paramFile("3.0.0", null));
+
+        assertNull(cache.get(key("2.0.0")));
+        assertEquals(1, cache.getEvictions());
+        assertEquals(2, cache.getEntries());
+    }
+
+    @Test
+    void GIVEN_weight_bound_WHEN_put_THEN_evicted_to_fit_and_heavier_expansions_are_not_kept() throws Exception {
+        ExpansionCache probe = new ExpansionCache(10, ExpansionCache.DEFAULT_MAX_WEIGHT_BYTES);
+        probe.put(key("1.0.0"), paramFile("1.0.0", null));
+        long weight = probe.getWeightBytes();
+
+        ExpansionCache cache = new ExpansionCache(10, weight * 3 / 2);
+        cache.put(key("1.0.0"), paramFile("1.0.0", null));
+        cache.put(key("2.0.0"), paramFile("2.0.0", null));
+        // A description as long as a whole expansion makes this one heavier than the cache
+        cache.put(key("3.0.0"), paramFile("3.0.0", String.join("", Collections.nCopies((int) weight, "x"))));
+
+        assertEquals(1, cache.getEntries());
+        assertEquals(1, cache.getEvictions());
+        assertEquals(weight, cache.getWeightBytes());
+        assertNull(cache.get(key("3.0.0")));
+    }
+
+    @Test
+    void GIVEN_disabled_cache_WHEN_put_THEN_nothing_is_kept() throws Exception {
+        assertFalse(ExpansionCache.DISABLED.isEnabled());
+        ExpansionCache.DISABLED.put(key("1.0.0"), paramFile("1.0.0", null));
+        assertEquals(0, ExpansionCache.DISABLED.getEntries());
+    }
+}
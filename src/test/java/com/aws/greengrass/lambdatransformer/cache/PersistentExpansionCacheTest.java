@@ -0,0 +1,161 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.cache;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+import com.amazon.aws.iot.greengrass.component.common.RecipeFormatVersion;
+import com.amazon.aws.iot.greengrass.component.common.SerializerFactory;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaRuntime;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+import com.vdurmont.semver4j.Semver;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.attribute.FileTime;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class PersistentExpansionCacheTest {
+    private static final long MAX_BYTES = 1024 * 1024;
+
+    @TempDir
+    Path root;
+
+    private static ComponentRecipe recipe(String version) {
+        return ComponentRecipe.builder()
+                .recipeFormatVersion(RecipeFormatVersion.JAN_25_2020)
+                .componentName("com.example.PersistedLambda")
+                .componentVersion(new Semver(version))
+                .build();
+    }
+
+    private static ExpansionKey key(String version) throws Exception {
+        return ExpansionKey.of(recipe(version), LambdaTemplateParams.builder()
+                .lambdaArn("arn:aws:lambda:us-west-2:123456789012:function:persisted:1")
+                .lambdaRuntime(LambdaRuntime.Java8)
+                .lambdaHandler("com.example.Handler::handleRequest")
+                .build());
+    }
+
+    private static byte[] json(String version) throws Exception {
+        return SerializerFactory.getRecipeSerializerJson().writeValueAsBytes(recipe(version));
+    }
+
+    private Path generationDirectory() throws Exception {
+        try (Stream<Path> generations = Files.list(root)) {
+            return generations.filter(Files::isDirectory).collect(Collectors.toList()).get(0);
+        }
+    }
+
+    @Test
+    void GIVEN_kept_expansion_WHEN_cache_reopened_THEN_read_back_from_disk() throws Exception {
+        ExpansionCache before = new ExpansionCache(0, 0, PersistentExpansionCache.open(root, MAX_BYTES));
+        before.put(key("1.0.0"), recipe("1.0.0"));
+
+        ExpansionCache after = new ExpansionCache(10, MAX_BYTES, PersistentExpansionCache.open(root, MAX_BYTES));
+
+        assertEquals(recipe("1.0.0"), after.get(key("1.0.0")));
+        assertEquals(1, after.getDiskHits());
+        assertEquals(1, after.getEntries());
+        assertNull(after.get(key("2.0.0")));
+        assertEquals(1, after.getMisses());
+    }
+
+    @Test
+    void GIVEN_other_versions_and_temporary_files_WHEN_opened_THEN_deleted() throws Exception {
+        PersistentExpansionCache.open(root, MAX_BYTES).write(key("1.0.0"), json("1.0.0"));
+        Path generation = generationDirectory();
+        Path temporary = Files.write(generation.resolve(key("2.0.0") + "123.tmp"), new byte[]{'{'});
+        Path stale = Files.createDirectory(root.resolve("0123456789abcdef"));
+        Files.write(stale.resolve(key("1.0.0") + ".json"), json("1.0.0"));
+
+        PersistentExpansionCache cache = PersistentExpansionCache.open(root, MAX_BYTES);
+
+        assertFalse(Files.exists(stale));
+        assertTrue(Files.exists(generation));
+        assertFalse(Files.exists(temporary));
+        assertEquals(json("1.0.0").length, cache.getSizeBytes());
+        assertNotNull(cache.read(key("1.0.0")));
+    }
+
+    @Test
+    void GIVEN_files_that_are_not_generations_WHEN_opened_THEN_kept() throws Exception {
+        Path notes = Files.write(root.resolve("notes.txt"), new byte[]{'x'});
+        Path other = Files.createDirectory(root.resolve("other"));
+        Path upperCase = Files.createDirectory(root.resolve("0123456789ABCDEF"));
+        Path generationNamedFile = Files.write(root.resolve("fedcba9876543210"), new byte[]{'x'});
+
+        PersistentExpansionCache.open(root, MAX_BYTES);
+
+        assertTrue(Files.exists(notes));
+        assertTrue(Files.exists(other));
+        assertTrue(Files.exists(upperCase));
+        assertTrue(Files.exists(generationNamedFile));
+    }
+
+    @Test
+    void GIVEN_size_cap_WHEN_written_over_it_THEN_least_recently_used_is_deleted() throws Exception {
+        PersistentExpansionCache cache = PersistentExpansionCache.open(root, json("1.0.0").length * 5L / 2);
+        cache.write(key("1.0.0"), json("1.0.0"));
+        cache.write(key("2.0.0"), json("2.0.0"));
+        // Last used in order 2.0.0, 1.0.0, whatever the resolution of the file system clock
+        Path generation = generationDirectory();
+        Files.setLastModifiedTime(generation.resolve(key("2.0.0") + ".json"), FileTime.fromMillis(1000));
+        Files.setLastModifiedTime(generation.resolve(key("1.0.0") + ".json"), FileTime.fromMillis(2000));
+
+        cache.write(key("3.0.0"), json("3.0.0"));
+
+        assertNull(cache.read(key("2.0.0")));
+        assertNotNull(cache.read(key("1.0.0")));
+        assertNotNull(cache.read(key("3.0.0")));
+        assertEquals(1, cache.getEvictions());
+        assertEquals(json("1.0.0").length * 2L, cache.getSizeBytes());
+    }
+
+    @Test
+    void GIVEN_unreadable_expansion_WHEN_read_THEN_miss_and_deleted() throws Exception {
+        PersistentExpansionCache cache = PersistentExpansionCache.open(root, MAX_BYTES);
+        cache.write(key("1.0.0"), "{\"ComponentName\":".getBytes(StandardCharsets.UTF_8));
+        Path entry = generationDirectory().resolve(key("1.0.0") + ".json");
+        assertTrue(Files.exists(entry));
+
+        assertNull(cache.read(key("1.0.0")));
+        assertFalse(Files.exists(entry));
+        assertEquals(0, cache.getSizeBytes());
+    }
+
+    @Test
+    void GIVEN_other_transformer_version_WHEN_generation_THEN_different_directory() {
+        assertEquals(PersistentExpansionCache.generation("1.0.0", "code"),
+                PersistentExpansionCache.generation("1.0.0", "code"));
+        assertNotEquals(PersistentExpansionCache.generation("1.0.0", "code"),
+                PersistentExpansionCache.generation("1.1.0", "code"));
+    }
+
+    @Test
+    void GIVEN_other_build_of_same_version_WHEN_generation_THEN_different_directory() throws Exception {
+        Path jar = Files.write(root.resolve("transformer.jar"), new byte[]{1, 2, 3});
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(1_000_000L));
+        String before = PersistentExpansionCache.codeStamp(jar);
+        Files.setLastModifiedTime(jar, FileTime.fromMillis(2_000_000L));
+        String after = PersistentExpansionCache.codeStamp(jar);
+
+        assertNotEquals(before, after);
+        assertNotEquals(PersistentExpansionCache.generation("1.0.0-SNAPSHOT", before),
+                PersistentExpansionCache.generation("1.0.0-SNAPSHOT", after));
+        assertFalse(PersistentExpansionCache.codeStamp().isEmpty());
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.common.models;
+
+import com.amazon.aws.iot.greengrass.component.common.Platform;
+import com.aws.greengrass.lambdatransformer.common.utils.TransformerSerializers;
+import com.fasterxml.jackson.databind.JsonNode;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static com.aws.greengrass.lambdatransformer.common.Constants.DEFAULT_LAMBDA_INPUT_PAYLOAD_ENCODING_TYPE;
+import static com.aws.greengrass.lambdatransformer.common.Constants.DEFAULT_LAMBDA_ISOLATION_MODE;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_RECIPE_DEFAULT_LAMBDA_MEMORY_IN_KILO_BYTES;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_RECIPE_DEFAULT_PINNED;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_RECIPE_DEFAULT_TIMEOUT_IN_SEC;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotSame;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LambdaTemplateParamsTest {
+    private static final String LAMBDA_ARN = "arn:aws:lambda:us-east-1:123456789012:function:func:1";
+    private static final String LAMBDA_HANDLER = "main.handler";
+
+    private static LambdaTemplateParams.LambdaTemplateParamsBuilder required() {
+        return LambdaTemplateParams.builder()
+                .lambdaArn(LAMBDA_ARN)
+                .lambdaRuntime(LambdaRuntime.Python37)
+                .lambdaHandler(LAMBDA_HANDLER);
+    }
+
+    @Test
+    void GIVEN_only_required_params_WHEN_built_THEN_defaults_are_set() {
+        LambdaTemplateParams params = required().build();
+
+        assertEquals(LAMBDA_RECIPE_DEFAULT_TIMEOUT_IN_SEC, params.getTimeoutInSeconds());
+        assertEquals(LAMBDA_RECIPE_DEFAULT_PINNED, params.isPinned());
+        assertEquals(DEFAULT_LAMBDA_INPUT_PAYLOAD_ENCODING_TYPE, params.getInputPayloadEncodingType());
+        assertEquals(DEFAULT_LAMBDA_ISOLATION_MODE, params.getContainerMode());
+        assertEquals(Collections.singletonList(Platform.builder().os(Platform.OS.ALL).build()),
+                params.getPlatforms());
+        assertTrue(params.getEventSources().isEmpty());
+        assertTrue(params.getComponentDependencies().isEmpty());
+        assertTrue(params.getExecArgs().isEmpty());
+        assertTrue(params.getEnvironmentVariables().isEmpty());
+        assertEquals(LAMBDA_RECIPE_DEFAULT_LAMBDA_MEMORY_IN_KILO_BYTES,
+                params.getContainerParams().getMemorySizeInKB());
+        assertFalse(params.getContainerParams().isMountROSysfs());
+        assertTrue(params.getContainerParams().getVolumes().isEmpty());
+    }
+
+    @Test
+    void GIVEN_default_objects_WHEN_built_or_deserialized_THEN_shared_instances() throws Exception {
+        LambdaTemplateParams params = required().build();
+        assertSame(LambdaTemplateParams.DEFAULT_PLATFORMS, params.getPlatforms());
+        assertSame(TemplateContainerParams.DEFAULTS, params.getContainerParams());
+
+        TemplateContainerParams explicitDefaults = TemplateContainerParams.builder()
+                .memorySizeInKB(LAMBDA_RECIPE_DEFAULT_LAMBDA_MEMORY_IN_KILO_BYTES)
+                .mountROSysfs(false)
+                .volumes(new ArrayList<>())
+                .build();
+        assertSame(TemplateContainerParams.DEFAULTS, explicitDefaults);
+        assertSame(TemplateContainerParams.DEFAULTS, TransformerSerializers.jsonMapper().readValue(
+                TransformerSerializers.jsonMapper().writeValueAsString(explicitDefaults),
+                TemplateContainerParams.class));
+        assertNotSame(TemplateContainerParams.DEFAULTS, TemplateContainerParams.builder().mountROSysfs(true).build());
+    }
+
+    @Test
+    void GIVEN_null_params_WHEN_built_THEN_same_as_absent() {
+        LambdaTemplateParams params = required()
+                .timeoutInSeconds(null)
+                .pinned(null)
+                .execArgs(null)
+                .containerParams(null)
+                .build();
+
+        assertEquals(required().build(), params);
+    }
+
+    @Test
+    void GIVEN_missing_required_param_WHEN_built_THEN_throw_exception() {
+        assertThrows(NullPointerException.class, () -> required().lambdaArn(null).build());
+    }
+
+    @Test
+    void GIVEN_explicit_null_platforms_WHEN_built_THEN_no_platforms() {
+        assertTrue(required().platforms(null).build().getPlatforms().isEmpty());
+    }
+
+    @Test
+    void GIVEN_caller_collections_WHEN_built_THEN_copied_and_immutable() {
+        List<String> execArgs = new ArrayList<>(Arrays.asList("-v", "-x", "-y"));
+        Map<String, String> environmentVariables = new LinkedHashMap<>();
+        environmentVariables.put("A", "1");
+        environmentVariables.put("B", "2");
+        LambdaTemplateParams params = required()
+                .execArgs(execArgs)
+                .environmentVariables(environmentVariables)
+                .build();
+
+        execArgs.add("-z");
+        environmentVariables.put("C", "3");
+
+        assertEquals(Arrays.asList("-v", "-x", "-y"), params.getExecArgs());
+        assertEquals(2, params.getEnvironmentVariables().size());
+        assertThrows(UnsupportedOperationException.class, () -> params.getExecArgs().add("-z"));
+        assertThrows(UnsupportedOperationException.class, () -> params.getEnvironmentVariables().put("C", "3"));
+        assertThrows(UnsupportedOperationException.class,
+                () -> params.getEnvironmentVariables().entrySet().iterator().next().setValue("0"));
+    }
+
+    @Test
+    void GIVEN_collections_of_another_instance_WHEN_built_THEN_shared() {
+        LambdaTemplateParams params = required()
+                .execArgs(Arrays.asList("-v", "-x", "-y"))
+                .eventSources(Collections.singletonList(new LambdaEventSource("topic",
+                        LambdaEventSource.LambdaEventSourceType.PUB_SUB)))
+                .build();
+
+        LambdaTemplateParams copy = required()
+                .lambdaHandler("other.handler")
+                .execArgs(params.getExecArgs())
+                .eventSources(params.getEventSources())
+                .containerParams(params.getContainerParams())
+                .build();
+
+        assertSame(params.getExecArgs(), copy.getExecArgs());
+        assertSame(params.getEventSources(), copy.getEventSources());
+        assertSame(params.getContainerParams(), copy.getContainerParams());
+    }
+
+    @Test
+    void GIVEN_equal_params_WHEN_compared_THEN_equal_with_equal_hash_codes() {
+        LambdaTemplateParams params = required().pinned(false).execArgs(Arrays.asList("-v", "-x")).build();
+        LambdaTemplateParams same = required().pinned(false).execArgs(new ArrayList<>(Arrays.asList("-v", "-x")))
+                .build();
+
+        assertEquals(params, same);
+        assertEquals(params.hashCode(), same.hashCode());
+        assertNotEquals(params, required().pinned(true).execArgs(Arrays.asList("-v", "-x")).build());
+    }
+
+    @Test
+    void GIVEN_params_WHEN_serialized_and_deserialized_THEN_equal() throws Exception {
+        LambdaTemplateParams params = required()
+                .pinned(false)
+                .maxQueueSize(5)
+                .eventSources(Collections.singletonList(new LambdaEventSource("topic",
+                        LambdaEventSource.LambdaEventSourceType.IOT_CORE)))
+                .containerParams(TemplateContainerParams.builder()
+                        .memorySizeInKB(32000)
+                        .volumes(Collections.singletonList(LambdaVolumeMount.builder()
+                                .source("/src")
+                                .destination("/dst")
+                                .addGroupOwner(true)
+                                .build()))
+                        .build())
+                .build();
+
+        String json = TransformerSerializers.jsonMapper().writeValueAsString(params);
+
+        assertEquals(params, TransformerSerializers.jsonMapper().readValue(json, LambdaTemplateParams.class));
+    }
+
+    @Test
+    @SuppressWarnings("deprecation")
+    void GIVEN_params_WHEN_deprecated_boolean_getters_THEN_same_values_and_same_json() {
+        LambdaVolumeMount volume = LambdaVolumeMount.builder().addGroupOwner(true).build();
+        LambdaDeviceMount device = LambdaDeviceMount.builder().addGroupOwner(false).build();
+        TemplateContainerParams containerParams = TemplateContainerParams.builder()
+                .mountROSysfs(true)
+                .volumes(Collections.singletonList(volume))
+                .devices(Collections.singletonList(device))
+                .build();
+        LambdaTemplateParams params = required().pinned(false).containerParams(containerParams).build();
+
+        assertEquals(params.isPinned(), params.getPinned());
+        assertEquals(containerParams.isMountROSysfs(), containerParams.getMountROSysfs());
+        assertEquals(volume.isAddGroupOwner(), volume.getAddGroupOwner());
+        assertEquals(device.isAddGroupOwner(), device.getAddGroupOwner());
+
+        JsonNode json = TransformerSerializers.jsonMapper().valueToTree(params);
+        assertFalse(json.get("pinned").booleanValue());
+        assertTrue(json.get("containerParams").get("mountROSysfs").booleanValue());
+        assertTrue(json.get("containerParams").get("volumes").get(0).get("addGroupOwner").booleanValue());
+        assertFalse(json.get("containerParams").get("devices").get(0).get("addGroupOwner").booleanValue());
+    }
+}
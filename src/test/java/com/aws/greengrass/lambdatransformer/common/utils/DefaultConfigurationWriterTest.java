@@ -0,0 +1,66 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.common.utils;
+
+import com.aws.greengrass.lambdatransformer.TestRecipes;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaDeviceMount;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaRuntime;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaVolumeMount;
+import com.aws.greengrass.lambdatransformer.common.models.TemplateContainerParams;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class DefaultConfigurationWriterTest {
+    private static final ObjectMapper OBJECT_MAPPER = new ObjectMapper();
+
+    @ParameterizedTest
+    @ValueSource(strings = {TestRecipes.MINIMAL_RECIPE, TestRecipes.FULL_RECIPE})
+    void GIVEN_recipe_WHEN_write_THEN_same_as_converting_default_configuration(String recipe) throws Exception {
+        assertSameAsConverted(TestRecipes.bind(TestRecipes.read(recipe)));
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {0, 1, 100})
+    void GIVEN_parameters_of_size_n_WHEN_write_THEN_same_as_converting_default_configuration(int n)
+            throws Exception {
+        assertSameAsConverted(TestRecipes.paramsOfSize(n));
+    }
+
+    @Test
+    void GIVEN_null_parameters_WHEN_write_THEN_same_nulls_as_converting_default_configuration() throws Exception {
+        assertSameAsConverted(LambdaTemplateParams.builder()
+                .lambdaArn("arn:aws:lambda:us-west-2:123456789012:function:nulls:1")
+                .lambdaRuntime(LambdaRuntime.Java8)
+                .lambdaHandler("Handler::handle")
+                .environmentVariables(Collections.singletonMap("ENV_VAR", null))
+                .eventSources(null)
+                .containerMode(null)
+                .inputPayloadEncodingType(null)
+                .containerParams(TemplateContainerParams.builder()
+                        .memorySizeInKB(null)
+                        .mountROSysfs(null)
+                        .volumes(Arrays.asList(LambdaVolumeMount.builder().permission(null).build(), null))
+                        .devices(Collections.singletonList(LambdaDeviceMount.builder().addGroupOwner(null).build()))
+                        .build())
+                .build());
+    }
+
+    // Serialized, since equality of object nodes ignores the field order
+    private static void assertSameAsConverted(LambdaTemplateParams params) throws Exception {
+        JsonNode converted = OBJECT_MAPPER.convertValue(TestRecipes.defaultConfiguration(params), JsonNode.class);
+        assertEquals(OBJECT_MAPPER.writeValueAsString(converted),
+                OBJECT_MAPPER.writeValueAsString(DefaultConfigurationWriter.write(params)));
+    }
+}
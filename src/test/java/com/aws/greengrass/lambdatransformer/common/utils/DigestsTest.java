@@ -0,0 +1,63 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.common.utils;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+import com.amazon.aws.iot.greengrass.component.common.DependencyProperties;
+import com.amazon.aws.iot.greengrass.component.common.RecipeFormatVersion;
+import com.amazon.aws.iot.greengrass.component.common.SerializerFactory;
+import com.aws.greengrass.lambdatransformer.LambdaTransformer;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaRuntime;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+import com.vdurmont.semver4j.Semver;
+import org.junit.jupiter.api.Test;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+
+public class DigestsTest {
+    private static final ComponentRecipe PARAM_FILE = ComponentRecipe.builder()
+            .recipeFormatVersion(RecipeFormatVersion.JAN_25_2020)
+            .componentName("com.example.DigestedLambda")
+            .componentVersion(new Semver("1.0.0"))
+            .build();
+
+    private static ComponentRecipe expand(String... environmentVariables) throws Exception {
+        Map<String, String> variables = new LinkedHashMap<>();
+        Map<String, DependencyProperties> dependencies = new LinkedHashMap<>();
+        for (String name : environmentVariables) {
+            variables.put(name, name.toLowerCase());
+            dependencies.put("com.example." + name, DependencyProperties.builder().versionRequirement("^1.0.0").build());
+        }
+        return new LambdaTransformer().transform(PARAM_FILE, LambdaTemplateParams.builder()
+                .lambdaArn("arn:aws:lambda:us-west-2:123456789012:function:digested:1")
+                .lambdaRuntime(LambdaRuntime.Python38)
+                .lambdaHandler("lambda_function.lambda_handler")
+                .environmentVariables(variables)
+                .componentDependencies(dependencies)
+                .build());
+    }
+
+    @Test
+    void GIVEN_equal_parameters_in_any_map_order_WHEN_expanded_THEN_same_bytes_and_digest() throws Exception {
+        ComponentRecipe recipe = expand("ZETA", "ALPHA", "MU");
+        ComponentRecipe reordered = expand("MU", "ZETA", "ALPHA");
+
+        assertEquals(SerializerFactory.getRecipeSerializer().writeValueAsString(recipe),
+                SerializerFactory.getRecipeSerializer().writeValueAsString(reordered));
+        assertEquals(Digests.ofRecipe(recipe), Digests.ofRecipe(reordered));
+        assertEquals(64, Digests.ofRecipe(recipe).length());
+        assertNotEquals(Digests.ofRecipe(recipe), Digests.ofRecipe(expand("ZETA", "ALPHA")));
+    }
+
+    @Test
+    void GIVEN_bytes_WHEN_hex_THEN_two_lowercase_digits_per_byte() {
+        assertEquals("00ff7f80", Digests.hex(new byte[]{0, -1, 127, -128}));
+    }
+}
@@ -0,0 +1,114 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.common.utils;
+
+import com.aws.greengrass.lambdatransformer.common.models.LambdaRuntime;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_ARN_PARAM_NAME;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_EXEC_ARGS_PARAM_NAME;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_HANDLER_PARAM_NAME;
+import static com.aws.greengrass.lambdatransformer.common.Constants.LAMBDA_SETENV_LAMBDA_RUNTIME_PARAM_NAME;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+@SuppressWarnings("unchecked")
+public class LambdaComponentUtilTest {
+    @Test
+    void GIVEN_every_runtime_WHEN_build_exec_args_THEN_handler_follows_runtime_command() {
+        assertEquals(Arrays.asList("python2.7", "-u", "/runtime/python/lambda_runtime.py", "--handler=index.handler"),
+                build(LambdaRuntime.Python27));
+        assertEquals(Arrays.asList("python3.7", "-u", "/runtime/python/lambda_runtime.py", "--handler=index.handler"),
+                build(LambdaRuntime.Python37));
+        assertEquals(Arrays.asList("python3.8", "-u", "/runtime/python/lambda_runtime.py", "--handler=index.handler"),
+                build(LambdaRuntime.Python38));
+        assertEquals(Arrays.asList("java8", "com.amazonaws.greengrass.runtime.LambdaRuntime",
+                "--handler=index.handler"), build(LambdaRuntime.Java8));
+        assertEquals(Arrays.asList("nodejs10.x", "/runtime/nodejs/lambda_nodejs_runtime.js",
+                "--handler=index.handler"), build(LambdaRuntime.Nodejs10X));
+        assertEquals(Arrays.asList("nodejs12.x", "/runtime/nodejs/lambda_nodejs_runtime.js",
+                "--handler=index.handler"), build(LambdaRuntime.Nodejs12X));
+    }
+
+    @Test
+    void GIVEN_extra_args_WHEN_build_exec_args_THEN_they_follow_the_handler() {
+        List<String> execArgs = LambdaComponentUtil.RUNTIME_TO_EXEC_ARGS_TEMPLATE.get(LambdaRuntime.Java8)
+                .build("Handler::handle", Arrays.asList("--arg", "value"));
+        assertEquals(Arrays.asList("java8", "com.amazonaws.greengrass.runtime.LambdaRuntime",
+                "--handler=Handler::handle", "--arg", "value"), execArgs);
+    }
+
+    @Test
+    void GIVEN_every_runtime_WHEN_build_exec_args_THEN_it_matches_the_exec_arg_mapping() {
+        for (LambdaRuntime runtime : LambdaRuntime.values()) {
+            List<String> mapping = LambdaComponentUtil.RUNTIME_TO_EXEC_ARG_MAPPING.get(runtime);
+            List<String> execArgs = LambdaComponentUtil.RUNTIME_TO_EXEC_ARGS_TEMPLATE.get(runtime)
+                    .build("index.handler", Collections.emptyList());
+            assertEquals(mapping.subList(0, mapping.size() - 1), execArgs.subList(0, execArgs.size() - 1));
+            assertEquals(mapping.get(mapping.size() - 1) + "index.handler", execArgs.get(execArgs.size() - 1));
+        }
+    }
+
+    @Test
+    void GIVEN_shared_mappings_WHEN_modified_THEN_throw_exception() {
+        assertThrows(UnsupportedOperationException.class,
+                () -> LambdaComponentUtil.RUNTIME_TO_EXEC_ARG_MAPPING.remove(LambdaRuntime.Java8));
+        assertThrows(UnsupportedOperationException.class,
+                () -> LambdaComponentUtil.RUNTIME_TO_EXEC_ARG_MAPPING.get(LambdaRuntime.Java8).remove(2));
+        assertThrows(UnsupportedOperationException.class,
+                () -> LambdaComponentUtil.RUNTIME_TO_EXEC_ARGS_TEMPLATE.remove(LambdaRuntime.Java8));
+        assertThrows(UnsupportedOperationException.class,
+                () -> LambdaComponentUtil.RUNTIME_TO_EXEC_ARGS_TEMPLATE.get(LambdaRuntime.Java8).getPrefix()
+                        .set(0, "java11"));
+    }
+
+    @Test
+    void GIVEN_every_runtime_WHEN_build_lifecycle_THEN_setenv_has_component_and_runtime_values() {
+        for (LambdaRuntime runtime : LambdaRuntime.values()) {
+            Map<String, Object> lifecycle = LambdaComponentUtil.RUNTIME_TO_LIFECYCLE_TEMPLATE.get(runtime)
+                    .build("arn:aws:lambda:us-west-2:123456789012:function:hello:1", "index.handler", "[\"--arg\"]");
+            assertEquals(new HashSet<>(Arrays.asList("setenv", "startup", "shutdown")), lifecycle.keySet());
+
+            Map<String, String> setenv = (Map<String, String>) lifecycle.get("setenv");
+            assertEquals(11, setenv.size());
+            assertEquals("arn:aws:lambda:us-west-2:123456789012:function:hello:1",
+                    setenv.get(LAMBDA_SETENV_ARN_PARAM_NAME));
+            assertEquals("index.handler", setenv.get(LAMBDA_SETENV_HANDLER_PARAM_NAME));
+            assertEquals(runtime.toString(), setenv.get(LAMBDA_SETENV_LAMBDA_RUNTIME_PARAM_NAME));
+            assertEquals("[\"--arg\"]", setenv.get(LAMBDA_SETENV_EXEC_ARGS_PARAM_NAME));
+            assertFalse(setenv.containsValue(null));
+        }
+    }
+
+    @Test
+    void GIVEN_two_components_WHEN_build_lifecycle_THEN_no_map_is_shared() {
+        LifecycleTemplate template = LambdaComponentUtil.RUNTIME_TO_LIFECYCLE_TEMPLATE.get(LambdaRuntime.Python38);
+        Map<String, Object> first = template.build("arn:first", "first.handler", "[]");
+        Map<String, Object> second = template.build("arn:second", "second.handler", "[]");
+
+        ((Map<String, String>) first.get("setenv")).put(LAMBDA_SETENV_ARN_PARAM_NAME, "arn:changed");
+        ((Map<String, Object>) first.get("startup")).put("script", "echo");
+        ((Map<String, Object>) first.get("shutdown")).put("script", "echo");
+
+        assertEquals("arn:second", ((Map<String, String>) second.get("setenv")).get(LAMBDA_SETENV_ARN_PARAM_NAME));
+        assertEquals("{aws.greengrass.LambdaLauncher:artifacts:path}/lambda-launcher start",
+                ((Map<String, Object>) second.get("startup")).get("script"));
+        assertEquals("{aws.greengrass.LambdaLauncher:artifacts:path}/lambda-launcher stop; "
+                        + "{aws.greengrass.LambdaLauncher:artifacts:path}/lambda-launcher clean",
+                ((Map<String, Object>) second.get("shutdown")).get("script"));
+    }
+
+    private static List<String> build(LambdaRuntime runtime) {
+        return LambdaComponentUtil.RUNTIME_TO_EXEC_ARGS_TEMPLATE.get(runtime).build("index.handler", null);
+    }
+}
@@ -0,0 +1,92 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.common.utils;
+
+import com.aws.greengrass.deployment.templating.exceptions.IllegalTemplateParameterException;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaEventSource;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaRuntime;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+import com.aws.greengrass.lambdatransformer.common.models.TemplateContainerParams;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.util.Arrays;
+import java.util.Collections;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+public class LambdaTemplateParamsValidatorTest {
+
+    private static LambdaTemplateParams.LambdaTemplateParamsBuilder valid() {
+        return LambdaTemplateParams.builder()
+                .lambdaArn("arn:aws:lambda:us-west-2:123456789012:function:validator:1")
+                .lambdaRuntime(LambdaRuntime.Python38)
+                .lambdaHandler("lambda_function.lambda_handler");
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"arn:aws:lambda:us-west-2:123456789012:function:validator",
+            "arn:aws:lambda:us-west-2:123456789012:function:validator:$LATEST",
+            "arn:aws:lambda:us-west-2:123456789012:function:validator:live",
+            "arn:aws-us-gov:lambda:us-gov-west-1:123456789012:function:validator:1",
+            "arn:aws-iso:lambda:us-iso-east-1:123456789012:function:validator:1",
+            "arn:aws-iso-b:lambda:us-isob-east-1:123456789012:function:validator:1"})
+    void GIVEN_function_arn_WHEN_validate_THEN_valid(String lambdaArn) throws Exception {
+        LambdaTemplateParamsValidator.validate(valid().lambdaArn(lambdaArn).build());
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"arn:aws:lambda:us-west:123456789012:function:validator:1",
+            "arn:aws:lambda:uswest-2:123456789012:function:validator:1",
+            "arn:aws:lambda:us--west-2:123456789012:function:validator:1"})
+    void GIVEN_function_arn_with_malformed_region_WHEN_validate_THEN_invalid(String lambdaArn) {
+        IllegalTemplateParameterException e = assertThrows(IllegalTemplateParameterException.class,
+                () -> LambdaTemplateParamsValidator.validate(valid().lambdaArn(lambdaArn).build()));
+        assertThat(e.getMessage(), containsString("lambdaArn is not valid"));
+    }
+
+    @ParameterizedTest
+    @ValueSource(strings = {"fleet/device/1/telemetry", "fleet/+/telemetry", "fleet/#", "#", "+", "/leading"})
+    void GIVEN_topic_filter_WHEN_validate_THEN_valid(String topic) throws Exception {
+        LambdaTemplateParamsValidator.validate(valid()
+                .eventSources(Collections.singletonList(LambdaEventSource.builder().topic(topic).build()))
+                .build());
+    }
+
+    @Test
+    void GIVEN_many_invalid_parameters_WHEN_validate_THEN_all_are_reported() {
+        LambdaTemplateParams params = valid()
+                .lambdaArn("arn:aws:lambda:us-west-2:123456789012:layer:validator:1")
+                .lambdaHandler("lambda_function. lambda_handler")
+                .platforms(Collections.emptyList())
+                .eventSources(Arrays.asList(LambdaEventSource.builder().topic("fleet/#/telemetry").build(),
+                        LambdaEventSource.builder().topic("fleet/dev+ice").build(),
+                        LambdaEventSource.builder().build(),
+                        null))
+                .timeoutInSeconds(0)
+                .maxQueueSize(-1)
+                .maxInstancesCount(0)
+                .containerParams(TemplateContainerParams.builder().memorySizeInKB(0).build())
+                .build();
+
+        IllegalTemplateParameterException e = assertThrows(IllegalTemplateParameterException.class,
+                () -> LambdaTemplateParamsValidator.validate(params));
+        assertThat(e.getMessage(), containsString("At least one platform is expected to be set by caller"));
+        assertThat(e.getMessage(), containsString("lambdaArn is not valid"));
+        assertThat(e.getMessage(), containsString("lambdaHandler is not valid"));
+        assertThat(e.getMessage(), containsString("pubsubTopics[0].topic is not valid"));
+        assertThat(e.getMessage(), containsString("pubsubTopics[1].topic is not valid"));
+        assertThat(e.getMessage(), containsString("pubsubTopics[2].topic is required"));
+        assertThat(e.getMessage(), containsString("pubsubTopics[3] is required"));
+        assertThat(e.getMessage(), containsString("timeoutInSeconds must be at least 1 but is 0"));
+        assertThat(e.getMessage(), containsString("maxQueueSize must be at least 1 but is -1"));
+        assertThat(e.getMessage(), containsString("maxInstancesCount must be at least 1 but is 0"));
+        assertThat(e.getMessage(), containsString("containerParams.memorySize must be at least 1 but is 0"));
+    }
+}
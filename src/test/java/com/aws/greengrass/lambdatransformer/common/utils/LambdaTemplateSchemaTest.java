@@ -0,0 +1,56 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.common.utils;
+
+import com.amazon.aws.iot.greengrass.component.common.SerializerFactory;
+import com.amazon.aws.iot.greengrass.component.common.TemplateParameterSchema;
+import com.aws.greengrass.lambdatransformer.TestRecipes;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LambdaTemplateSchemaTest {
+    private static final String RECIPE_ROOT = "/com/aws/greengrass/lambdatransformer/integrationtests/";
+
+    @Test
+    void GIVEN_schema_text_WHEN_read_by_recipe_serializer_THEN_equals_schema() throws Exception {
+        assertEquals(LambdaTemplateSchema.schema(), SerializerFactory.getRecipeSerializer()
+                .readValue(LambdaTemplateSchema.text(), TemplateParameterSchema.class));
+    }
+
+    @Test
+    void GIVEN_schema_text_WHEN_generated_THEN_same_as_shipped() throws Exception {
+        assertEquals(new String(GenerateTemplateSchemaFromDefaults.generateTemplateSchemaJson(),
+                StandardCharsets.UTF_8), LambdaTemplateSchema.text());
+    }
+
+    // Catches template recipes whose defaults drift from those of the models
+    @ParameterizedTest
+    @ValueSource(strings = {TestRecipes.TEMPLATE_RECIPE, RECIPE_ROOT + "recipes/LambdaTemplate-1.0.0.yaml",
+            RECIPE_ROOT + "minimal_recipes/LambdaTemplate-1.0.0.yaml",
+            RECIPE_ROOT + "bad_recipes/LambdaTemplate-1.0.0.yaml",
+            RECIPE_ROOT + "e2e/component_resources/recipes/LambdaTemplate-1.0.0.yaml"})
+    void GIVEN_template_recipe_WHEN_read_THEN_schema_equals_generated(String recipe) throws Exception {
+        assertEquals(LambdaTemplateSchema.schema(), TestRecipes.read(recipe).getTemplateParameterSchema());
+    }
+
+    @Test
+    void GIVEN_schema_defaults_WHEN_bound_THEN_equal_model_defaults() throws Exception {
+        LambdaTemplateParams params = TestRecipes.bind(TestRecipes.read(TestRecipes.MINIMAL_RECIPE));
+        LambdaTemplateParams expected = LambdaTemplateParams.builder()
+                .lambdaArn(params.getLambdaArn())
+                .lambdaRuntime(params.getLambdaRuntime())
+                .lambdaHandler(params.getLambdaHandler())
+                .build();
+        assertEquals(TransformerSerializers.jsonMapper().writeValueAsString(expected),
+                TransformerSerializers.jsonMapper().writeValueAsString(params));
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.delta;
+
+import com.aws.greengrass.lambdatransformer.common.models.LambdaRuntime;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+import org.junit.jupiter.api.Test;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class LambdaParameterTest {
+    private static LambdaTemplateParams.LambdaTemplateParamsBuilder params() {
+        return LambdaTemplateParams.builder()
+                .lambdaArn("arn:aws:lambda:us-west-2:123456789012:function:classified:1")
+                .lambdaRuntime(LambdaRuntime.Python38)
+                .lambdaHandler("lambda_function.lambda_handler");
+    }
+
+    @Test
+    void GIVEN_parameters_WHEN_classified_THEN_only_configuration_the_lifecycle_does_not_read_is_hot_updatable() {
+        Set<LambdaParameter> hotUpdatable = EnumSet.noneOf(LambdaParameter.class);
+        for (LambdaParameter parameter : LambdaParameter.values()) {
+            if (parameter.getUpdate() == ParameterUpdate.HOT_UPDATABLE) {
+                hotUpdatable.add(parameter);
+            }
+        }
+
+        assertEquals(EnumSet.of(LambdaParameter.PUBSUB_TOPICS, LambdaParameter.TIMEOUT_IN_SECONDS,
+                LambdaParameter.PINNED, LambdaParameter.MAX_QUEUE_SIZE, LambdaParameter.MAX_INSTANCES_COUNT,
+                LambdaParameter.MAX_IDLE_TIME_IN_SECONDS), hotUpdatable);
+    }
+
+    @Test
+    void GIVEN_changed_parameters_WHEN_changes_between_THEN_each_classified_in_schema_order() {
+        Map<String, ParameterUpdate> expected = new LinkedHashMap<>();
+        expected.put("lambdaHandler", ParameterUpdate.RESTART_REQUIRED);
+        expected.put("timeoutInSeconds", ParameterUpdate.HOT_UPDATABLE);
+        expected.put("maxIdleTimeInSeconds", ParameterUpdate.HOT_UPDATABLE);
+        expected.put("lambdaArgs", ParameterUpdate.RESTART_REQUIRED);
+
+        Map<String, ParameterUpdate> changes = LambdaParameter.changesBetween(params().build(), params()
+                .lambdaHandler("other_function.lambda_handler")
+                .timeoutInSeconds(30)
+                .maxIdleTimeInSeconds(120)
+                .execArgs(Arrays.asList("-v"))
+                .build());
+
+        assertEquals(expected, changes);
+        assertEquals(Arrays.asList(expected.keySet().toArray()), Arrays.asList(changes.keySet().toArray()));
+    }
+
+    @Test
+    void GIVEN_equal_parameters_WHEN_changes_between_THEN_empty() {
+        assertTrue(LambdaParameter.changesBetween(params().environmentVariables(Collections.singletonMap("A", "1"))
+                .build(), params().environmentVariables(Collections.singletonMap("A", "1")).build()).isEmpty());
+    }
+}
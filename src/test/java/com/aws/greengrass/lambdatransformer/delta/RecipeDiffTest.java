@@ -0,0 +1,133 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.delta;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+import com.amazon.aws.iot.greengrass.component.common.DependencyProperties;
+import com.amazon.aws.iot.greengrass.component.common.Platform;
+import com.amazon.aws.iot.greengrass.component.common.RecipeFormatVersion;
+import com.amazon.aws.iot.greengrass.component.common.SerializerFactory;
+import com.aws.greengrass.deployment.templating.exceptions.RecipeTransformerException;
+import com.aws.greengrass.lambdatransformer.LambdaTransformer;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaRuntime;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+import com.fasterxml.jackson.databind.node.IntNode;
+import com.vdurmont.semver4j.Semver;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.EnumSet;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class RecipeDiffTest {
+    private static final ComponentRecipe PARAM_FILE = ComponentRecipe.builder()
+            .recipeFormatVersion(RecipeFormatVersion.JAN_25_2020)
+            .componentName("com.example.PatchedLambda")
+            .componentVersion(new Semver("1.0.0"))
+            .build();
+
+    private final LambdaTransformer transformer = new LambdaTransformer();
+
+    private static LambdaTemplateParams.LambdaTemplateParamsBuilder params() {
+        return LambdaTemplateParams.builder()
+                .lambdaArn("arn:aws:lambda:us-west-2:123456789012:function:patched:1")
+                .lambdaRuntime(LambdaRuntime.Python38)
+                .lambdaHandler("lambda_function.lambda_handler")
+                .timeoutInSeconds(3);
+    }
+
+    private void assertPatchApplies(LambdaTemplateParams previous, LambdaTemplateParams current, RecipePatch patch)
+            throws Exception {
+        ComponentRecipe patched = patch.applyTo(transformer.transform(PARAM_FILE, previous));
+        assertEquals(SerializerFactory.getRecipeSerializerJson().writeValueAsString(
+                transformer.transform(PARAM_FILE, current)),
+                SerializerFactory.getRecipeSerializerJson().writeValueAsString(patched));
+    }
+
+    @Test
+    void GIVEN_equal_parameters_WHEN_diff_THEN_empty_patch() throws Exception {
+        RecipePatch patch = transformer.diff(PARAM_FILE, params().build(), params().build());
+
+        assertSame(RecipePatch.EMPTY, patch);
+        assertTrue(patch.getChangedSections().isEmpty());
+    }
+
+    @Test
+    void GIVEN_only_timeout_changed_WHEN_diff_THEN_one_replace_in_configuration() throws Exception {
+        LambdaTemplateParams previous = params().build();
+        LambdaTemplateParams current = params().timeoutInSeconds(30).build();
+
+        RecipePatch patch = transformer.diff(PARAM_FILE, previous, current);
+
+        assertEquals(Collections.singletonList(new PatchOperation(PatchOperation.Op.REPLACE,
+                "/ComponentConfiguration/DefaultConfiguration/timeoutInSeconds", IntNode.valueOf(30))),
+                patch.getOperations());
+        assertEquals(EnumSet.of(RecipeSection.CONFIGURATION), patch.getChangedSections());
+        assertEquals(Collections.singletonMap("timeoutInSeconds", ParameterUpdate.HOT_UPDATABLE),
+                patch.getParameterUpdates());
+        assertFalse(patch.isRestartRequired());
+        assertPatchApplies(previous, current, patch);
+    }
+
+    @Test
+    void GIVEN_dependency_platform_and_handler_changed_WHEN_diff_THEN_sections_reported() throws Exception {
+        LambdaTemplateParams previous = params().build();
+        LambdaTemplateParams current = params()
+                .lambdaHandler("other_function.lambda_handler")
+                .componentDependencies(Collections.singletonMap("com.example.Dependency",
+                        DependencyProperties.builder().versionRequirement("^1.0.0").build()))
+                .platforms(Arrays.asList(Platform.builder().os(Platform.OS.LINUX).build(),
+                        Platform.builder().os(Platform.OS.WINDOWS).build()))
+                .build();
+
+        RecipePatch patch = transformer.diff(PARAM_FILE, previous, current);
+
+        assertEquals(EnumSet.of(RecipeSection.LIFECYCLE, RecipeSection.MANIFESTS, RecipeSection.DEPENDENCIES),
+                patch.getChangedSections());
+        assertEquals(Arrays.asList("lambdaHandler", "platforms", "componentDependencies"),
+                new ArrayList<>(patch.getParameterUpdates().keySet()));
+        assertTrue(patch.isRestartRequired());
+        assertPatchApplies(previous, current, patch);
+        // Back again, removing what was added
+        assertPatchApplies(current, previous, transformer.diff(PARAM_FILE, current, previous));
+    }
+
+    @Test
+    void GIVEN_configuration_the_lifecycle_interpolates_changed_WHEN_diff_THEN_restart_required() throws Exception {
+        RecipePatch patch = transformer.diff(PARAM_FILE, params().maxQueueSize(100).build(), params().maxQueueSize(200)
+                .environmentVariables(Collections.singletonMap("LOG_LEVEL", "debug")).build());
+
+        assertEquals(EnumSet.of(RecipeSection.CONFIGURATION), patch.getChangedSections());
+        assertEquals(ParameterUpdate.HOT_UPDATABLE, patch.getParameterUpdates().get("maxQueueSize"));
+        assertEquals(ParameterUpdate.RESTART_REQUIRED, patch.getParameterUpdates().get("lambdaEnvironmentVariables"));
+        assertTrue(patch.isRestartRequired());
+        assertTrue(RecipeDiff.between(transformer.transform(PARAM_FILE, params().build()),
+                transformer.transform(PARAM_FILE, params().statusTimeoutInSeconds(120).build())).isRestartRequired());
+    }
+
+    @Test
+    void GIVEN_patch_WHEN_serialized_THEN_json_patch_document() throws Exception {
+        RecipePatch patch = transformer.diff(PARAM_FILE, params().build(), params().timeoutInSeconds(30).build());
+
+        assertEquals("[{\"op\":\"replace\",\"path\":\"/ComponentConfiguration/DefaultConfiguration/timeoutInSeconds\","
+                + "\"value\":30}]", SerializerFactory.getRecipeSerializerJson().writeValueAsString(patch));
+    }
+
+    @Test
+    void GIVEN_patch_of_another_recipe_WHEN_applied_THEN_throw_exception() {
+        RecipePatch patch = new RecipePatch(Collections.singletonList(
+                new PatchOperation(PatchOperation.Op.REMOVE, "/Manifests/5", null)), Collections.emptyMap());
+
+        assertThrows(RecipeTransformerException.class, () -> patch.applyTo(PARAM_FILE));
+    }
+}
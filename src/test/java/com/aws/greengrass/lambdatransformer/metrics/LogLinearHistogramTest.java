@@ -0,0 +1,107 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.metrics;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class LogLinearHistogramTest {
+    // A bucket spans at most 1/32 of the values in it
+    private static final double MAX_RELATIVE_ERROR = 1.0 / 32;
+
+    @Test
+    void GIVEN_any_value_WHEN_bucketed_THEN_bucket_contains_value_and_is_narrow() {
+        for (long value = 0; value < 10_000_000; value += 13) {
+            int index = LogLinearHistogram.bucketIndex(value);
+            long highest = LogLinearHistogram.highestEquivalentValue(index);
+            assertThat(highest, greaterThanOrEqualTo(value));
+            if (index > 0) {
+                assertThat(LogLinearHistogram.highestEquivalentValue(index - 1), lessThanOrEqualTo(value - 1));
+            }
+            assertThat((double) (highest - value), lessThanOrEqualTo(value * MAX_RELATIVE_ERROR));
+        }
+    }
+
+    @Test
+    void GIVEN_uniform_values_WHEN_snapshot_THEN_percentiles_are_within_bucket_precision() {
+        LogLinearHistogram histogram = new LogLinearHistogram(40);
+        for (long value = 1; value <= 100_000; value++) {
+            histogram.record(value);
+        }
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(100_000, snapshot.getCount());
+        assertEquals(1, snapshot.getMin());
+        assertEquals(100_000, snapshot.getMax());
+        assertEquals(50_000.5, snapshot.getMean(), 0.001);
+        assertWithinPrecision(50_000, snapshot.getP50());
+        assertWithinPrecision(90_000, snapshot.getP90());
+        assertWithinPrecision(99_000, snapshot.getP99());
+        assertWithinPrecision(99_900, snapshot.getP999());
+    }
+
+    @Test
+    void GIVEN_value_above_highest_trackable_WHEN_record_THEN_it_is_clamped() {
+        LogLinearHistogram histogram = new LogLinearHistogram(10);
+        histogram.record(Long.MAX_VALUE);
+        histogram.record(-1);
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals(2, snapshot.getCount());
+        assertEquals(0, snapshot.getMin());
+        assertEquals(1023, snapshot.getMax());
+        assertEquals(1023, snapshot.getP999());
+    }
+
+    @Test
+    void GIVEN_empty_histogram_WHEN_snapshot_THEN_snapshot_is_empty() {
+        assertEquals(HistogramSnapshot.EMPTY, new LogLinearHistogram(20).snapshot());
+    }
+
+    @Test
+    void GIVEN_concurrent_recorders_WHEN_snapshot_THEN_no_value_is_lost() throws Exception {
+        LogLinearHistogram histogram = new LogLinearHistogram(40);
+        int threads = 4;
+        int valuesPerThread = 100_000;
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int t = 0; t < threads; t++) {
+                futures.add(executor.submit(() -> {
+                    for (int i = 1; i <= valuesPerThread; i++) {
+                        histogram.record(i);
+                    }
+                }));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        HistogramSnapshot snapshot = histogram.snapshot();
+        assertEquals((long) threads * valuesPerThread, snapshot.getCount());
+        assertEquals(1, snapshot.getMin());
+        assertEquals(valuesPerThread, snapshot.getMax());
+        assertEquals((valuesPerThread + 1) / 2.0, snapshot.getMean(), 0.001);
+    }
+
+    private static void assertWithinPrecision(long expected, long actual) {
+        assertThat(actual, greaterThanOrEqualTo(expected));
+        assertThat((double) actual, lessThanOrEqualTo(expected * (1 + MAX_RELATIVE_ERROR)));
+    }
+}
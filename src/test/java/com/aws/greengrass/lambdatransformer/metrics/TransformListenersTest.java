@@ -0,0 +1,80 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.metrics;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+import com.aws.greengrass.lambdatransformer.LambdaTransformer;
+import com.aws.greengrass.lambdatransformer.TestRecipes;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.stream.Collectors;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+public class TransformListenersTest {
+    private final List<PhaseTiming> timings = new CopyOnWriteArrayList<>();
+    private final TransformListener recordingListener = timings::add;
+
+    @AfterEach
+    void afterEach() {
+        TransformListeners.remove(recordingListener);
+    }
+
+    @Test
+    void GIVEN_no_listener_WHEN_start_timer_THEN_noop_timer_is_returned() throws Exception {
+        ComponentRecipe recipe = TestRecipes.read(TestRecipes.FULL_RECIPE);
+        assertThat(TransformListeners.startTimer(recipe), sameInstance(PhaseTimer.NOOP));
+    }
+
+    @Test
+    void GIVEN_listener_WHEN_transform_THEN_every_phase_is_reported_with_input_sizes() throws Exception {
+        ComponentRecipe recipe = TestRecipes.read(TestRecipes.FULL_RECIPE);
+        LambdaTemplateParams params = TestRecipes.bind(recipe);
+        TransformListeners.add(recordingListener);
+
+        new LambdaTransformer().transform(recipe, params);
+
+        assertThat(timings.stream().map(PhaseTiming::getPhase).collect(Collectors.toList()),
+                contains(TransformPhase.EXEC_ARGS, TransformPhase.LIFECYCLE, TransformPhase.CONFIGURATION,
+                        TransformPhase.DEPENDENCIES, TransformPhase.MANIFESTS));
+        for (PhaseTiming timing : timings) {
+            assertEquals("cloud-hello", timing.getComponentName());
+            assertEquals("3.2.1", timing.getComponentVersion());
+            assertEquals(2, timing.getTopicCount());
+            assertEquals(3, timing.getMountCount());
+            assertEquals(2, timing.getEnvironmentVariableCount());
+            assertThat(timing.getDurationNanos(), greaterThanOrEqualTo(0L));
+        }
+        for (int i = 1; i < timings.size(); i++) {
+            assertThat(timings.get(i).getStartNanos(), greaterThanOrEqualTo(timings.get(i - 1).getEndNanos()));
+        }
+    }
+
+    @Test
+    void GIVEN_failing_listener_WHEN_transform_THEN_transform_still_succeeds() throws Exception {
+        ComponentRecipe recipe = TestRecipes.read(TestRecipes.FULL_RECIPE);
+        LambdaTemplateParams params = TestRecipes.bind(recipe);
+        TransformListener failingListener = timing -> {
+            throw new IllegalStateException("listener failure");
+        };
+        TransformListeners.add(failingListener);
+        TransformListeners.add(recordingListener);
+        try {
+            new LambdaTransformer().transform(recipe, params);
+        } finally {
+            TransformListeners.remove(failingListener);
+        }
+        assertEquals(TransformPhase.values().length - 1, timings.size());
+    }
+}
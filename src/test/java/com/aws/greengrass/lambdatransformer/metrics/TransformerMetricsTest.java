@@ -0,0 +1,118 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer.metrics;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+import com.aws.greengrass.deployment.templating.exceptions.RecipeTransformerException;
+import com.aws.greengrass.lambdatransformer.LambdaTransformer;
+import com.aws.greengrass.lambdatransformer.TestRecipes;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaRuntime;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import java.lang.management.ManagementFactory;
+import java.util.Map;
+import javax.management.MBeanServer;
+import javax.management.ObjectName;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+public class TransformerMetricsTest {
+    private static final String RUNTIME = "Nodejs12X";
+
+    private final TransformerMetrics metrics = TransformerMetrics.getInstance();
+    private LambdaTransformer transformer;
+
+    @BeforeEach
+    void beforeEach() throws Exception {
+        transformer = new LambdaTransformer();
+        TestRecipes.initTemplateRecipe(transformer, TestRecipes.read(TestRecipes.TEMPLATE_RECIPE));
+    }
+
+    @Test
+    void GIVEN_transformer_WHEN_loaded_THEN_mbean_is_registered() throws Exception {
+        MBeanServer server = ManagementFactory.getPlatformMBeanServer();
+        ObjectName name = new ObjectName(TransformerMetrics.OBJECT_NAME);
+        assertTrue(server.isRegistered(name));
+
+        long before = (Long) server.getAttribute(name, "ComponentsExpanded");
+        transformer.execute(TestRecipes.read(TestRecipes.FULL_RECIPE));
+        assertEquals(before + 1, (long) (Long) server.getAttribute(name, "ComponentsExpanded"));
+    }
+
+    @Test
+    void GIVEN_recipe_WHEN_execute_THEN_latency_is_recorded_for_its_runtime() throws Exception {
+        ComponentRecipe recipe = TestRecipes.read(TestRecipes.FULL_RECIPE);
+        long latencyCount = count(metrics.getLatencyNanosByRuntime());
+
+        transformer.execute(recipe);
+
+        HistogramSnapshot latency = metrics.getLatencyNanosByRuntime().get(RUNTIME);
+        assertEquals(latencyCount + 1, latency.getCount());
+        assertThat(latency.getMax(), greaterThan(0L));
+    }
+
+    @Test
+    void GIVEN_no_expansion_cache_WHEN_execute_a_sample_interval_of_recipes_THEN_one_output_size_is_recorded()
+            throws Exception {
+        ComponentRecipe recipe = TestRecipes.read(TestRecipes.FULL_RECIPE);
+        long outputSizeCount = count(metrics.getOutputSizeBytesByRuntime());
+
+        for (int i = 0; i < TransformerMetrics.DEFAULT_OUTPUT_SIZE_SAMPLE_INTERVAL; i++) {
+            transformer.execute(recipe);
+        }
+
+        HistogramSnapshot outputSize = metrics.getOutputSizeBytesByRuntime().get(RUNTIME);
+        assertEquals(outputSizeCount + 1, outputSize.getCount());
+        assertThat(outputSize.getMax(), greaterThan(0L));
+    }
+
+    @Test
+    void GIVEN_sample_interval_WHEN_sample_output_size_THEN_one_in_every_interval_is_sampled() {
+        TransformerMetrics sampled = new TransformerMetrics(3);
+        TransformerMetrics unsampled = new TransformerMetrics(0);
+
+        assertTrue(sampled.sampleOutputSize());
+        assertFalse(sampled.sampleOutputSize());
+        assertFalse(sampled.sampleOutputSize());
+        assertTrue(sampled.sampleOutputSize());
+        assertFalse(unsampled.sampleOutputSize());
+    }
+
+    @Test
+    void GIVEN_serialized_recipe_WHEN_size_recorded_THEN_output_size_is_recorded_for_its_runtime() {
+        long outputSizeCount = count(metrics.getOutputSizeBytesByRuntime());
+
+        metrics.serialized(LambdaRuntime.Nodejs12X, 2048);
+
+        HistogramSnapshot outputSize = metrics.getOutputSizeBytesByRuntime().get(RUNTIME);
+        assertEquals(outputSizeCount + 1, outputSize.getCount());
+        assertThat(outputSize.getMax(), greaterThanOrEqualTo(2048L));
+    }
+
+    @Test
+    void GIVEN_invalid_recipe_WHEN_execute_THEN_failure_is_counted_by_cause() throws Exception {
+        ComponentRecipe recipe = TestRecipes.read(TestRecipes.BAD_RECIPE);
+        long failures = metrics.getFailuresByCause().getOrDefault("TemplateParameterException", 0L);
+        long expanded = metrics.getComponentsExpanded();
+
+        assertThrows(RecipeTransformerException.class, () -> transformer.execute(recipe));
+
+        assertEquals(failures + 1, (long) metrics.getFailuresByCause().get("TemplateParameterException"));
+        assertEquals(expanded, metrics.getComponentsExpanded());
+    }
+
+    private static long count(Map<String, HistogramSnapshot> histograms) {
+        HistogramSnapshot snapshot = histograms.get(RUNTIME);
+        return snapshot == null ? 0 : snapshot.getCount();
+    }
+}
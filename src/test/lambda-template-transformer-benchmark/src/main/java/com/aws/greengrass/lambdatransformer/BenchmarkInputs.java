@@ -0,0 +1,222 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+import com.amazon.aws.iot.greengrass.component.common.RecipeFormatVersion;
+import com.amazon.aws.iot.greengrass.component.common.SerializerFactory;
+import com.amazon.aws.iot.greengrass.component.common.TemplateParameter;
+import com.amazon.aws.iot.greengrass.component.common.TemplateParameterSchema;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+import com.aws.greengrass.lambdatransformer.common.utils.LambdaTemplateSchema;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.vdurmont.semver4j.Semver;
+import lombok.Getter;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Parameter recipes used as benchmark inputs, bound the same way the nucleus binds them before calling transform.
+ */
+@Getter
+public final class BenchmarkInputs {
+    public static final String MINIMAL = "minimal";
+    public static final String TYPICAL = "typical";
+    public static final String LARGE = "large";
+
+    public static final String RECIPE_ROOT = "/com/aws/greengrass/lambdatransformer/integrationtests/";
+    public static final String TEMPLATE_RECIPE = RECIPE_ROOT + "full_recipes/LambdaTemplate-1.0.0.yaml";
+    public static final String MINIMAL_RECIPE = RECIPE_ROOT + "minimal_recipes/python-listener-1.0.0.yaml";
+    public static final String TYPICAL_RECIPE = RECIPE_ROOT + "full_recipes/cloud-hello-3.2.1.yaml";
+
+    private static final String DEFAULT_TRANSFORMER_JAR =
+            "../../../target/aws.greengrass.lambda-template-transformer.jar";
+
+    private static final int LARGE_ENVIRONMENT_VARIABLES = 2000;
+    private static final int LARGE_PUBSUB_TOPICS = 500;
+    private static final int LARGE_VOLUMES = 200;
+    private static final int LARGE_DEVICES = 200;
+    private static final int LARGE_LAMBDA_ARGS = 50;
+    private static final int LARGE_DEPENDENCIES = 50;
+    private static final String[] LARGE_OSES = {"linux", "darwin", "windows", "*"};
+    private static final String[] LARGE_ARCHITECTURES = {"amd64", "arm", "aarch64", "x86"};
+
+    private final ComponentRecipe recipe;
+    private final LambdaTemplateParams params;
+
+    private BenchmarkInputs(ComponentRecipe recipe, LambdaTemplateParams params) {
+        this.recipe = recipe;
+        this.params = params;
+    }
+
+    /**
+     * Load one of the named input profiles.
+     *
+     * @param profile one of {@link #MINIMAL}, {@link #TYPICAL} or {@link #LARGE}
+     * @return the parameter recipe and its bound template parameters
+     * @throws IOException if a fixture recipe cannot be read
+     */
+    public static BenchmarkInputs load(String profile) throws IOException {
+        ComponentRecipe recipe;
+        switch (profile) {
+            case MINIMAL:
+                recipe = readRecipe(MINIMAL_RECIPE);
+                break;
+            case TYPICAL:
+                recipe = readRecipe(TYPICAL_RECIPE);
+                break;
+            case LARGE:
+                recipe = largeRecipe();
+                break;
+            default:
+                throw new IllegalArgumentException("Unknown benchmark input " + profile);
+        }
+        return new BenchmarkInputs(recipe, bind(recipe));
+    }
+
+    /**
+     * Merge schema defaults into the recipe parameters and bind them to {@link LambdaTemplateParams}, mirroring
+     * RecipeTransformer#mergeAndValidateComponentParams without the schema validation.
+     *
+     * @param recipe parameter recipe
+     * @return bound parameters
+     * @throws IOException if the schema or parameters cannot be (de)serialized
+     */
+    public static LambdaTemplateParams bind(ComponentRecipe recipe) throws IOException {
+        ObjectMapper recipeSerializer = SerializerFactory.getRecipeSerializer();
+        TemplateParameterSchema schema = LambdaTemplateSchema.schema();
+
+        Map<String, Object> merged = new LinkedHashMap<>(recipe.getTemplateParameters());
+        for (Map.Entry<String, TemplateParameter> entry : schema.entrySet()) {
+            if (entry.getValue().getDefaultValue() != null) {
+                merged.putIfAbsent(entry.getKey(), entry.getValue().getDefaultValue());
+            }
+        }
+        return recipeSerializer.readValue(recipeSerializer.writeValueAsString(merged), LambdaTemplateParams.class);
+    }
+
+    /**
+     * Read a recipe from the integration test resources.
+     *
+     * @param resource classpath location of the recipe
+     * @return parsed recipe
+     * @throws IOException if the recipe is missing or cannot be parsed
+     */
+    public static ComponentRecipe readRecipe(String resource) throws IOException {
+        try (InputStream in = BenchmarkInputs.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("Benchmark input " + resource + " is not on the classpath");
+            }
+            return SerializerFactory.getRecipeSerializer().readValue(in, ComponentRecipe.class);
+        }
+    }
+
+    /**
+     * Locate the shaded transformer jar, from the {@code transformer.jar} system property or the root target
+     * directory.
+     *
+     * @return path of the jar
+     * @throws IOException if the jar has not been built
+     */
+    public static Path transformerJar() throws IOException {
+        Path transformerJar = Paths.get(System.getProperty("transformer.jar", DEFAULT_TRANSFORMER_JAR));
+        if (!Files.isRegularFile(transformerJar)) {
+            throw new IOException("Transformer jar " + transformerJar.toAbsolutePath() + " does not exist. Run "
+                    + "`mvn package` in the repository root or set -Dtransformer.jar");
+        }
+        return transformerJar;
+    }
+
+    private static ComponentRecipe largeRecipe() {
+        Map<String, Object> parameters = new LinkedHashMap<>();
+        parameters.put("lambdaArn", "arn:aws:lambda:us-west-2:123456789012:function:large-lambda:1");
+        parameters.put("lambdaHandler", "index.handler");
+        parameters.put("lambdaRuntime", "nodejs12.x");
+        parameters.put("timeoutInSeconds", 30);
+        parameters.put("pinned", false);
+        parameters.put("inputPayloadEncodingType", "binary");
+
+        Map<String, Object> environmentVariables = new LinkedHashMap<>();
+        for (int i = 0; i < LARGE_ENVIRONMENT_VARIABLES; i++) {
+            environmentVariables.put("ENV_VAR_" + i, "value-" + i);
+        }
+        parameters.put("lambdaEnvironmentVariables", environmentVariables);
+
+        List<Object> topics = new ArrayList<>(LARGE_PUBSUB_TOPICS);
+        for (int i = 0; i < LARGE_PUBSUB_TOPICS; i++) {
+            Map<String, Object> topic = new LinkedHashMap<>();
+            topic.put("topic", "fleet/device/" + i + "/telemetry");
+            topic.put("type", i % 2 == 0 ? "PUB_SUB" : "IOT_CORE");
+            topics.add(topic);
+        }
+        parameters.put("pubsubTopics", topics);
+
+        List<Object> lambdaArgs = new ArrayList<>(LARGE_LAMBDA_ARGS);
+        for (int i = 0; i < LARGE_LAMBDA_ARGS; i++) {
+            lambdaArgs.add("--arg" + i);
+        }
+        parameters.put("lambdaArgs", lambdaArgs);
+
+        List<Object> platforms = new ArrayList<>(LARGE_OSES.length * LARGE_ARCHITECTURES.length);
+        for (String os : LARGE_OSES) {
+            for (String architecture : LARGE_ARCHITECTURES) {
+                Map<String, Object> platform = new LinkedHashMap<>();
+                platform.put("os", os);
+                platform.put("architecture", architecture);
+                platforms.add(platform);
+            }
+        }
+        parameters.put("platforms", platforms);
+
+        Map<String, Object> dependencies = new LinkedHashMap<>();
+        for (int i = 0; i < LARGE_DEPENDENCIES; i++) {
+            Map<String, Object> dependency = new LinkedHashMap<>();
+            dependency.put("VersionRequirement", ">=1.0.0 <2.0.0");
+            dependency.put("DependencyType", i % 2 == 0 ? "HARD" : "SOFT");
+            dependencies.put("com.example.Dependency" + i, dependency);
+        }
+        parameters.put("componentDependencies", dependencies);
+
+        List<Object> volumes = new ArrayList<>(LARGE_VOLUMES);
+        for (int i = 0; i < LARGE_VOLUMES; i++) {
+            Map<String, Object> volume = new LinkedHashMap<>();
+            volume.put("source", "/data/source/" + i);
+            volume.put("destination", "/data/destination/" + i);
+            volume.put("permission", i % 2 == 0 ? "ro" : "rw");
+            volume.put("addGroupOwner", i % 2 == 0);
+            volumes.add(volume);
+        }
+        List<Object> devices = new ArrayList<>(LARGE_DEVICES);
+        for (int i = 0; i < LARGE_DEVICES; i++) {
+            Map<String, Object> device = new LinkedHashMap<>();
+            device.put("path", "/dev/device" + i);
+            device.put("permission", i % 2 == 0 ? "ro" : "rw");
+            device.put("addGroupOwner", i % 2 != 0);
+            devices.add(device);
+        }
+        Map<String, Object> containerParams = new LinkedHashMap<>();
+        containerParams.put("memorySize", 65_536);
+        containerParams.put("mountROSysfs", true);
+        containerParams.put("volumes", volumes);
+        containerParams.put("devices", devices);
+        parameters.put("containerParams", containerParams);
+
+        return ComponentRecipe.builder()
+                .recipeFormatVersion(RecipeFormatVersion.JAN_25_2020)
+                .componentName("large-lambda")
+                .componentVersion(new Semver("1.0.0"))
+                .templateParameters(parameters)
+                .build();
+    }
+}
@@ -0,0 +1,174 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+import com.aws.greengrass.deployment.templating.RecipeTransformer;
+import com.aws.greengrass.deployment.templating.exceptions.RecipeTransformerException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.lang.reflect.Method;
+import java.net.URL;
+import java.net.URLClassLoader;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Single-shot measurements of what a deployment pays the first time it expands a Lambda component: loading the
+ * shaded transformer jar, parsing the template schema and running the first transform. Every iteration gets a new
+ * classloader, so the transformer classes are loaded, linked and interpreted from scratch each time, the same as
+ * with {@code TransformerWrapper}.
+ */
+@BenchmarkMode(Mode.SingleShotTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 0)
+@Measurement(iterations = 20)
+@Fork(5)
+public class ColdStartBenchmark {
+    private static final String TRANSFORMER_PACKAGE = "com.aws.greengrass.lambdatransformer.";
+    private static final String TRANSFORMER_CLASS = TRANSFORMER_PACKAGE + "LambdaTransformer";
+
+    @Benchmark
+    public RecipeTransformer loadJar(FreshClassLoader state) throws ReflectiveOperationException {
+        return state.newTransformer();
+    }
+
+    @Benchmark
+    public RecipeTransformer initTemplateSchema(Inputs inputs, LoadedTransformer state)
+            throws ReflectiveOperationException {
+        inputs.initTemplateRecipe.invoke(state.transformer, inputs.templateRecipe);
+        return state.transformer;
+    }
+
+    @Benchmark
+    public ComponentRecipe firstTransform(Inputs inputs, InitializedTransformer state)
+            throws RecipeTransformerException {
+        return state.transformer.execute(inputs.parameterRecipe);
+    }
+
+    /**
+     * Recipes and the transformer jar, shared by every iteration.
+     */
+    @State(Scope.Benchmark)
+    public static class Inputs {
+        private URL transformerJar;
+        private ComponentRecipe templateRecipe;
+        private ComponentRecipe parameterRecipe;
+        private Method initTemplateRecipe;
+
+        @Setup(Level.Trial)
+        public void setup() throws IOException, NoSuchMethodException {
+            transformerJar = BenchmarkInputs.transformerJar().toUri().toURL();
+            templateRecipe = BenchmarkInputs.readRecipe(BenchmarkInputs.TEMPLATE_RECIPE);
+            parameterRecipe = BenchmarkInputs.readRecipe(BenchmarkInputs.TYPICAL_RECIPE);
+            // Package-private in the nucleus, this is what TransformerWrapper calls after instantiating the transformer
+            initTemplateRecipe = RecipeTransformer.class.getDeclaredMethod("initTemplateRecipe",
+                    ComponentRecipe.class);
+            initTemplateRecipe.setAccessible(true);
+        }
+    }
+
+    /**
+     * A classloader over the transformer jar that has not loaded anything yet.
+     */
+    @State(Scope.Thread)
+    public static class FreshClassLoader {
+        private URLClassLoader classLoader;
+
+        @Setup(Level.Iteration)
+        public void setup(Inputs inputs) {
+            classLoader = newClassLoader(inputs);
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() throws IOException {
+            classLoader.close();
+        }
+
+        RecipeTransformer newTransformer() throws ReflectiveOperationException {
+            return ColdStartBenchmark.newTransformer(classLoader);
+        }
+    }
+
+    /**
+     * A transformer freshly loaded from the jar, before its template schema has been parsed.
+     */
+    @State(Scope.Thread)
+    public static class LoadedTransformer {
+        private URLClassLoader classLoader;
+        private RecipeTransformer transformer;
+
+        @Setup(Level.Iteration)
+        public void setup(Inputs inputs) throws ReflectiveOperationException {
+            classLoader = newClassLoader(inputs);
+            transformer = newTransformer(classLoader);
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() throws IOException {
+            classLoader.close();
+        }
+    }
+
+    /**
+     * A transformer freshly loaded from the jar with its template schema parsed, ready for its first transform.
+     */
+    @State(Scope.Thread)
+    public static class InitializedTransformer {
+        private URLClassLoader classLoader;
+        private RecipeTransformer transformer;
+
+        @Setup(Level.Iteration)
+        public void setup(Inputs inputs) throws ReflectiveOperationException {
+            classLoader = newClassLoader(inputs);
+            transformer = newTransformer(classLoader);
+            inputs.initTemplateRecipe.invoke(transformer, inputs.templateRecipe);
+        }
+
+        @TearDown(Level.Iteration)
+        public void tearDown() throws IOException {
+            classLoader.close();
+        }
+    }
+
+    private static URLClassLoader newClassLoader(Inputs inputs) {
+        return new URLClassLoader(new URL[]{inputs.transformerJar},
+                new TransformerHidingClassLoader(ColdStartBenchmark.class.getClassLoader()));
+    }
+
+    private static RecipeTransformer newTransformer(ClassLoader classLoader) throws ReflectiveOperationException {
+        return (RecipeTransformer) Class.forName(TRANSFORMER_CLASS, true, classLoader).getConstructor().newInstance();
+    }
+
+    /**
+     * The benchmark classpath already contains the transformer classes, and classloaders delegate to their parent
+     * first. Hiding them from the parent forces every new {@link URLClassLoader} to define them again from the jar.
+     */
+    private static final class TransformerHidingClassLoader extends ClassLoader {
+        TransformerHidingClassLoader(ClassLoader parent) {
+            super(parent);
+        }
+
+        @Override
+        protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+            if (name.startsWith(TRANSFORMER_PACKAGE)) {
+                throw new ClassNotFoundException(name);
+            }
+            return super.loadClass(name, resolve);
+        }
+    }
+}
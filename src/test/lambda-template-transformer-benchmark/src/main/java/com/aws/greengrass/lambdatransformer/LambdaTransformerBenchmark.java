@@ -0,0 +1,87 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer;
+
+import com.amazon.aws.iot.greengrass.component.common.ComponentConfiguration;
+import com.amazon.aws.iot.greengrass.component.common.ComponentRecipe;
+import com.amazon.aws.iot.greengrass.component.common.PlatformSpecificManifest;
+import com.aws.greengrass.deployment.templating.exceptions.RecipeTransformerException;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+import com.fasterxml.jackson.core.JsonProcessingException;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Measures {@link LambdaTransformer#transform} end to end and each of the phases it is composed of.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class LambdaTransformerBenchmark {
+
+    @Param({BenchmarkInputs.MINIMAL, BenchmarkInputs.TYPICAL, BenchmarkInputs.LARGE})
+    public String input;
+
+    private LambdaTransformer transformer;
+    private ComponentRecipe recipe;
+    private LambdaTemplateParams params;
+    private List<String> execArgs;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, RecipeTransformerException {
+        BenchmarkInputs inputs = BenchmarkInputs.load(input);
+        transformer = new LambdaTransformer();
+        recipe = inputs.getRecipe();
+        params = inputs.getParams();
+        execArgs = LambdaTransformer.getExecArgsSpecificToLambdaRuntime(params.getLambdaHandler(),
+                params.getLambdaRuntime(), params.getExecArgs());
+    }
+
+    @Benchmark
+    public ComponentRecipe transform() throws RecipeTransformerException {
+        return transformer.transform(recipe, params);
+    }
+
+    @Benchmark
+    public List<String> execArgs() throws RecipeTransformerException {
+        return LambdaTransformer.getExecArgsSpecificToLambdaRuntime(params.getLambdaHandler(),
+                params.getLambdaRuntime(), params.getExecArgs());
+    }
+
+    @Benchmark
+    public Map<String, Object> lifecycle() throws JsonProcessingException {
+        return transformer.getLifecycleFromLambda(params.getLambdaArn(), params.getLambdaHandler(),
+                params.getLambdaRuntime(), execArgs);
+    }
+
+    @Benchmark
+    public ComponentConfiguration configuration() {
+        return transformer.createConfigurationFromParameters(params);
+    }
+
+    @Benchmark
+    public List<PlatformSpecificManifest> manifests() {
+        return transformer.buildManifests(params.getPlatforms());
+    }
+}
@@ -0,0 +1,183 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.io.File;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+/**
+ * Compares a JMH JSON result file against the stored baseline, and fails when a benchmark got slower or allocates
+ * more than the configured tolerance allows. Also fails when a benchmark of the baseline has no result, so that a
+ * missing comparison never passes as one without regressions. Without a recorded baseline, as on a fresh checkout
+ * before one was recorded on the reference host, it only warns, unless {@code -Dperf.requireBaseline=true}.
+ *
+ * <p>Usage: {@code PerfBaselineCheck <jmh result json> <baseline json>}. Tolerances are fractions read from the
+ * {@code perf.throughputTolerance} and {@code perf.allocationTolerance} system properties. With
+ * {@code -Dperf.updateBaseline=true} the results are written to the baseline instead of being compared.
+ */
+public final class PerfBaselineCheck {
+    private static final ObjectMapper MAPPER = new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT);
+    private static final String ALLOCATION_METRIC = "gc.alloc.rate.norm";
+    private static final String THROUGHPUT_MODE = "thrpt";
+    private static final double DEFAULT_THROUGHPUT_TOLERANCE = 0.15;
+    private static final double DEFAULT_ALLOCATION_TOLERANCE = 0.10;
+
+    private PerfBaselineCheck() {
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args result file and baseline file
+     * @throws IOException if either file cannot be read or the baseline cannot be written
+     */
+    public static void main(String[] args) throws IOException {
+        if (args.length != 2) {
+            throw new IllegalArgumentException("Usage: PerfBaselineCheck <jmh result json> <baseline json>");
+        }
+        File resultFile = new File(args[0]);
+        File baselineFile = new File(args[1]);
+        Map<String, Measurement> results = readResults(resultFile);
+
+        if (Boolean.getBoolean("perf.updateBaseline")) {
+            writeBaseline(baselineFile, results);
+            System.out.printf("Wrote %d benchmark results to baseline %s%n", results.size(), baselineFile);
+            return;
+        }
+
+        double throughputTolerance = tolerance("perf.throughputTolerance", DEFAULT_THROUGHPUT_TOLERANCE);
+        double allocationTolerance = tolerance("perf.allocationTolerance", DEFAULT_ALLOCATION_TOLERANCE);
+        Map<String, Measurement> baseline = readBaseline(baselineFile);
+        if (baseline.isEmpty()) {
+            System.err.printf("WARNING: No baseline recorded in %s, nothing compared. Record one on the reference "
+                    + "host with -Dperf.updateBaseline=true%n", baselineFile);
+            if (Boolean.getBoolean("perf.requireBaseline")) {
+                System.exit(1);
+            }
+            return;
+        }
+        List<String> regressions = new ArrayList<>();
+        for (String benchmark : baseline.keySet()) {
+            if (!results.containsKey(benchmark)) {
+                System.out.printf("MISSING   %s: in the baseline but not in the results%n", benchmark);
+                regressions.add(benchmark + " has no result");
+            }
+        }
+        for (Map.Entry<String, Measurement> entry : results.entrySet()) {
+            Measurement current = entry.getValue();
+            Measurement previous = baseline.get(entry.getKey());
+            if (previous == null) {
+                System.out.printf("NEW       %s: %.3f %s, %.0f B/op (no baseline, not compared)%n", entry.getKey(),
+                        current.score, current.unit, current.allocatedBytes);
+                continue;
+            }
+            // Throughput modes report ops per unit of time, every other mode reports time per op
+            double slowdown = THROUGHPUT_MODE.equals(current.mode) ? previous.score / current.score - 1
+                    : current.score / previous.score - 1;
+            double allocationGrowth = previous.allocatedBytes > 0 ? current.allocatedBytes / previous.allocatedBytes
+                    - 1 : 0;
+            boolean regressed = false;
+            if (slowdown > throughputTolerance) {
+                regressions.add(String.format("%s is %.1f%% slower (%.3f -> %.3f %s)", entry.getKey(),
+                        slowdown * 100, previous.score, current.score, current.unit));
+                regressed = true;
+            }
+            if (allocationGrowth > allocationTolerance) {
+                regressions.add(String.format("%s allocates %.1f%% more (%.0f -> %.0f B/op)", entry.getKey(),
+                        allocationGrowth * 100, previous.allocatedBytes, current.allocatedBytes));
+                regressed = true;
+            }
+            System.out.printf("%-9s %s: %+.1f%% time, %+.1f%% allocation%n", regressed ? "REGRESSED" : "OK",
+                    entry.getKey(), slowdown * 100, allocationGrowth * 100);
+        }
+
+        if (!regressions.isEmpty()) {
+            System.err.printf("Performance regressed past %.0f%% time / %.0f%% allocation tolerance, or was not "
+                    + "measured:%n",
+                    throughputTolerance * 100, allocationTolerance * 100);
+            regressions.forEach(regression -> System.err.println("  " + regression));
+            System.exit(1);
+        }
+    }
+
+    private static double tolerance(String property, double defaultValue) {
+        String value = System.getProperty(property);
+        return value == null || value.isEmpty() ? defaultValue : Double.parseDouble(value);
+    }
+
+    private static Map<String, Measurement> readResults(File resultFile) throws IOException {
+        Map<String, Measurement> results = new TreeMap<>();
+        for (JsonNode run : MAPPER.readTree(resultFile)) {
+            StringBuilder key = new StringBuilder(run.path("benchmark").asText());
+            JsonNode params = run.path("params");
+            if (params.size() > 0) {
+                Map<String, String> sorted = new TreeMap<>();
+                params.fields().forEachRemaining(param -> sorted.put(param.getKey(), param.getValue().asText()));
+                key.append(sorted);
+            }
+
+            double allocatedBytes = 0;
+            Iterator<Map.Entry<String, JsonNode>> secondary = run.path("secondaryMetrics").fields();
+            while (secondary.hasNext()) {
+                Map.Entry<String, JsonNode> metric = secondary.next();
+                if (metric.getKey().endsWith(ALLOCATION_METRIC)) {
+                    allocatedBytes = metric.getValue().path("score").asDouble();
+                }
+            }
+            JsonNode primary = run.path("primaryMetric");
+            results.put(key.toString(), new Measurement(run.path("mode").asText(), primary.path("score").asDouble(),
+                    primary.path("scoreUnit").asText(), allocatedBytes));
+        }
+        return results;
+    }
+
+    private static Map<String, Measurement> readBaseline(File baselineFile) throws IOException {
+        Map<String, Measurement> baseline = new TreeMap<>();
+        if (!baselineFile.isFile()) {
+            return baseline;
+        }
+        MAPPER.readTree(baselineFile).fields().forEachRemaining(entry -> {
+            JsonNode value = entry.getValue();
+            baseline.put(entry.getKey(), new Measurement(value.path("mode").asText(), value.path("score").asDouble(),
+                    value.path("scoreUnit").asText(), value.path("allocatedBytesPerOp").asDouble()));
+        });
+        return baseline;
+    }
+
+    private static void writeBaseline(File baselineFile, Map<String, Measurement> results) throws IOException {
+        ObjectNode baseline = MAPPER.createObjectNode();
+        results.forEach((key, measurement) -> baseline.putObject(key)
+                .put("mode", measurement.mode)
+                .put("score", measurement.score)
+                .put("scoreUnit", measurement.unit)
+                .put("allocatedBytesPerOp", measurement.allocatedBytes));
+        MAPPER.writeValue(baselineFile, baseline);
+    }
+
+    private static final class Measurement {
+        private final String mode;
+        private final double score;
+        private final String unit;
+        private final double allocatedBytes;
+
+        Measurement(String mode, double score, String unit, double allocatedBytes) {
+            this.mode = mode;
+            this.score = score;
+            this.unit = unit;
+            this.allocatedBytes = allocatedBytes;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer;
+
+import com.aws.greengrass.deployment.templating.exceptions.RecipeTransformerException;
+import com.aws.greengrass.lambdatransformer.common.models.LambdaTemplateParams;
+import com.aws.greengrass.lambdatransformer.common.utils.CountingOutputStream;
+import com.aws.greengrass.lambdatransformer.common.utils.TransformerSerializers;
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Jackson costs of the transformer, with and without Afterburner: the exec args every transform writes, with the
+ * shared writer versus a mapper built per call, which is what a new transformer instance used to pay, and the
+ * parameters an expansion key serializes. Everything else the transform serializes goes through the nucleus mappers,
+ * which Afterburner is not registered with.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Warmup(iterations = 5, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(2)
+@State(Scope.Benchmark)
+public class SerializationBenchmark {
+
+    @Param({BenchmarkInputs.MINIMAL, BenchmarkInputs.TYPICAL, BenchmarkInputs.LARGE})
+    public String input;
+
+    @Param({"false", "true"})
+    public boolean afterburner;
+
+    private ObjectWriter execArgsWriter;
+    private ObjectWriter expansionKeyWriter;
+    private LambdaTemplateParams params;
+    private List<String> execArgs;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException, RecipeTransformerException {
+        ObjectMapper mapper = TransformerSerializers.newJsonMapper(afterburner);
+        execArgsWriter = mapper.writerFor(new TypeReference<List<String>>() {
+        });
+        expansionKeyWriter = TransformerSerializers.canonicalWriter(mapper);
+
+        params = BenchmarkInputs.load(input).getParams();
+        execArgs = LambdaTransformer.getExecArgsSpecificToLambdaRuntime(params.getLambdaHandler(),
+                params.getLambdaRuntime(), params.getExecArgs());
+    }
+
+    @Benchmark
+    public String writeExecArgs() throws IOException {
+        return execArgsWriter.writeValueAsString(execArgs);
+    }
+
+    @Benchmark
+    public String writeExecArgsWithNewMapper() throws IOException {
+        return TransformerSerializers.newJsonMapper(afterburner).writeValueAsString(execArgs);
+    }
+
+    @Benchmark
+    public long writeExpansionKeyParams() throws IOException {
+        // Like ExpansionKey, which only digests the bytes
+        try (CountingOutputStream out = new CountingOutputStream()) {
+            expansionKeyWriter.writeValue(out, params);
+            return out.getCount();
+        }
+    }
+}
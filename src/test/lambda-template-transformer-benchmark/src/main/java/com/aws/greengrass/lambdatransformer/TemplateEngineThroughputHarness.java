@@ -0,0 +1,199 @@
+/*
+ * Copyright Amazon.com, Inc. or its affiliates. All Rights Reserved.
+ * SPDX-License-Identifier: Apache-2.0
+ */
+
+package com.aws.greengrass.lambdatransformer;
+
+import com.aws.greengrass.componentmanager.ComponentStore;
+import com.aws.greengrass.componentmanager.models.ComponentIdentifier;
+import com.aws.greengrass.dependency.Context;
+import com.aws.greengrass.deployment.templating.TemplateEngine;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * Runs generated corpora of parameter recipes through the real {@link TemplateEngine} and transformer jar, and
+ * reports how expansion time and memory grow with the number of Lambda components in a deployment.
+ *
+ * <p>Usage: {@code TemplateEngineThroughputHarness [corpus sizes...]}, defaulting to 1, 100, 1000 and 10000. The
+ * transformer jar is read from the {@code transformer.jar} system property, or the shaded jar in the root target
+ * directory.
+ */
+public final class TemplateEngineThroughputHarness {
+    private static final String PARAMETER_RECIPE_NAME = "cloud-hello";
+    private static final String PARAMETER_RECIPE_VERSION = "3.2.1";
+    private static final int[] DEFAULT_CORPUS_SIZES = {1, 100, 1_000, 10_000};
+    private static final int WARMUP_CORPUS_SIZE = 100;
+
+    private TemplateEngineThroughputHarness() {
+    }
+
+    /**
+     * Entry point.
+     *
+     * @param args corpus sizes to run
+     * @throws Exception if a corpus cannot be generated or expanded
+     */
+    public static void main(String[] args) throws Exception {
+        int[] sizes = args.length == 0 ? DEFAULT_CORPUS_SIZES : Arrays.stream(args).mapToInt(Integer::parseInt)
+                .toArray();
+        Path transformerJar = BenchmarkInputs.transformerJar();
+        String template = readResource(BenchmarkInputs.TEMPLATE_RECIPE);
+        String parameters = readResource(BenchmarkInputs.TYPICAL_RECIPE);
+
+        // Let class loading and JIT settle before anything is recorded
+        run(WARMUP_CORPUS_SIZE, template, parameters, transformerJar);
+
+        System.out.printf("%10s %12s %14s %14s %14s %14s%n", "recipes", "recipes/sec", "setup (ms)", "p50 (us)",
+                "p99 (us)", "peak heap (MB)");
+        for (int size : sizes) {
+            Result result = run(size, template, parameters, transformerJar);
+            System.out.printf("%10d %12.1f %14.1f %14.1f %14.1f %14.1f%n", size, result.recipesPerSecond(),
+                    result.setupNanos / 1e6, result.percentile(50) / 1e3, result.percentile(99) / 1e3,
+                    result.peakHeapBytes / (1024.0 * 1024.0));
+        }
+    }
+
+    private static Result run(int size, String template, String parameters, Path transformerJar)
+            throws Exception {
+        Path root = Files.createTempDirectory("template-engine-harness");
+        Context context = new Context();
+        ExecutorService executorService = Executors.newCachedThreadPool();
+        context.put(ExecutorService.class, executorService);
+        try {
+            Path recipesDir = Files.createDirectories(root.resolve("recipes"));
+            Path artifactsDir = Files.createDirectories(root.resolve("artifacts"));
+            Files.copy(transformerJar, Files.createDirectories(artifactsDir.resolve("LambdaTemplate").resolve("1.0.0"))
+                    .resolve("transformer.jar"));
+            Files.write(recipesDir.resolve("LambdaTemplate-1.0.0.yaml"), template.getBytes(StandardCharsets.UTF_8));
+            for (int i = 0; i < size; i++) {
+                String name = "lambda-" + i;
+                Files.write(recipesDir.resolve(name + "-" + PARAMETER_RECIPE_VERSION + ".yaml"),
+                        parameters.replace(PARAMETER_RECIPE_NAME, name).getBytes(StandardCharsets.UTF_8));
+            }
+
+            RecordingComponentStore componentStore = new RecordingComponentStore(size);
+            List<MemoryPoolMXBean> heapPools = ManagementFactory.getMemoryPoolMXBeans().stream()
+                    .filter(pool -> pool.getType() == MemoryType.HEAP).collect(Collectors.toList());
+            System.gc();
+            heapPools.forEach(MemoryPoolMXBean::resetPeakUsage);
+
+            long start = System.nanoTime();
+            new TemplateEngine(componentStore, null, context).process(recipesDir, artifactsDir);
+            long end = System.nanoTime();
+
+            // Summing per-pool peaks over-approximates the true peak, but is stable across collectors
+            long peakHeap = heapPools.stream().mapToLong(pool -> pool.getPeakUsage().getUsed()).sum();
+            if (componentStore.count != size) {
+                throw new IllegalStateException("Expected " + size + " expanded recipes, got "
+                        + componentStore.count);
+            }
+            return new Result(size, start, end, componentStore.savedAt, peakHeap);
+        } finally {
+            context.shutdown();
+            executorService.shutdownNow();
+            deleteRecursively(root);
+        }
+    }
+
+    private static String readResource(String resource) throws IOException {
+        try (InputStream in = TemplateEngineThroughputHarness.class.getResourceAsStream(resource)) {
+            if (in == null) {
+                throw new IOException("Harness input " + resource + " is not on the classpath");
+            }
+            ByteArrayOutputStream out = new ByteArrayOutputStream();
+            byte[] buffer = new byte[8192];
+            int read;
+            while ((read = in.read(buffer)) != -1) {
+                out.write(buffer, 0, read);
+            }
+            return new String(out.toByteArray(), StandardCharsets.UTF_8);
+        }
+    }
+
+    private static void deleteRecursively(Path root) throws IOException {
+        try (Stream<Path> files = Files.walk(root)) {
+            for (Path path : files.sorted(Comparator.reverseOrder()).collect(Collectors.toList())) {
+                Files.deleteIfExists(path);
+            }
+        }
+    }
+
+    /**
+     * Component store that only records when each expanded recipe would have been written.
+     */
+    private static final class RecordingComponentStore extends ComponentStore {
+        private final long[] savedAt;
+        private int count;
+
+        RecordingComponentStore(int expected) {
+            super(null, null, null);
+            savedAt = new long[expected];
+        }
+
+        @Override
+        public void savePackageRecipe(ComponentIdentifier componentId, String recipeContent) {
+            if (count < savedAt.length) {
+                savedAt[count] = System.nanoTime();
+            }
+            count++;
+        }
+    }
+
+    private static final class Result {
+        private final int size;
+        private final long totalNanos;
+        private final long setupNanos;
+        private final long[] latencies;
+        private final long peakHeapBytes;
+
+        /*
+         * The engine expands recipes one after the other, so the time between two consecutive saves is the latency of
+         * one component. Everything before the first save (scanning recipes, loading the transformer jar and the
+         * first expansion) is reported as setup.
+         */
+        Result(int size, long start, long end, long[] savedAt, long peakHeapBytes) {
+            this.size = size;
+            this.totalNanos = end - start;
+            this.setupNanos = savedAt.length == 0 ? totalNanos : savedAt[0] - start;
+            List<Long> deltas = new ArrayList<>(Math.max(savedAt.length - 1, 1));
+            if (savedAt.length == 1) {
+                deltas.add(setupNanos);
+            }
+            for (int i = 1; i < savedAt.length; i++) {
+                deltas.add(savedAt[i] - savedAt[i - 1]);
+            }
+            this.latencies = deltas.stream().mapToLong(Long::longValue).sorted().toArray();
+            this.peakHeapBytes = peakHeapBytes;
+        }
+
+        double recipesPerSecond() {
+            return size / (totalNanos / 1e9);
+        }
+
+        double percentile(int percentile) {
+            if (latencies.length == 0) {
+                return 0;
+            }
+            int index = (int) Math.ceil(percentile / 100.0 * latencies.length) - 1;
+            return latencies[Math.max(0, Math.min(index, latencies.length - 1))];
+        }
+    }
+}